@@ -0,0 +1,162 @@
+package seedu.uninurse.model.person;
+
+import static seedu.uninurse.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.uninurse.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.uninurse.logic.parser.CliSyntax.PREFIX_TASK_DESCRIPTION;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.uninurse.logic.parser.ArgumentMultimap;
+import seedu.uninurse.logic.parser.ArgumentTokenizer;
+import seedu.uninurse.model.PatientSearchIndex.Clause;
+import seedu.uninurse.model.condition.Condition;
+import seedu.uninurse.model.condition.ConditionContainsKeywordsPredicate;
+import seedu.uninurse.model.condition.ConditionList;
+import seedu.uninurse.model.medication.Medication;
+import seedu.uninurse.model.medication.MedicationContainsKeywordsPredicate;
+import seedu.uninurse.model.medication.MedicationList;
+import seedu.uninurse.model.remark.Remark;
+import seedu.uninurse.model.remark.RemarkContainsKeywordsPredicate;
+import seedu.uninurse.model.remark.RemarkList;
+import seedu.uninurse.model.tag.Tag;
+import seedu.uninurse.model.tag.TagContainsKeywordsPredicate;
+import seedu.uninurse.model.tag.TagList;
+import seedu.uninurse.model.task.DateTime;
+import seedu.uninurse.model.task.NonRecurringTask;
+import seedu.uninurse.model.task.Task;
+import seedu.uninurse.model.task.TaskContainsKeywordsPredicate;
+import seedu.uninurse.model.task.TaskList;
+
+/**
+ * Compares the compiled plan of {@code PatientMatchPredicate} against the tree of per-detail predicates it replaced,
+ * over a list of generated patients. The same clauses evaluated in the order the descriptors were given are measured
+ * as well, which isolates the effect of evaluating the clauses from the cheapest.
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PatientMatchPredicateBenchmark {
+    private static final String[] WORDS = {"meier", "kurz", "street", "ave", "clementi", "jurong", "vitals",
+        "catheter", "insulin", "diabetes", "asthma", "allergic", "wheelchair", "high-risk", "fall-risk"};
+    private static final List<String> KEYWORDS = List.of("diabetes", "asthma", "wheelchair");
+    private static final String ARGS = " " + PREFIX_PHONE + "9 " + PREFIX_TAG + "high-risk "
+            + PREFIX_TASK_DESCRIPTION + "vitals";
+
+    @Param({"1000", "10000"})
+    private int patientCount;
+
+    private List<Patient> patients;
+    private Predicate<Patient> compiledPlan;
+    private Predicate<Patient> predicateTree;
+    private Predicate<Patient> givenOrder;
+
+    /**
+     * Generates the patients and the predicates.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        patients = new ArrayList<>();
+        for (int i = 0; i < patientCount; i++) {
+            patients.add(generatePatient(random, i));
+        }
+
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(ARGS, PREFIX_PHONE, PREFIX_TAG,
+                PREFIX_TASK_DESCRIPTION);
+        PatientMatchPredicate predicate = new PatientMatchPredicate(KEYWORDS, argMultimap);
+        List<Clause> clauses = predicate.getClauses();
+        compiledPlan = predicate;
+        predicateTree = predicateTree(KEYWORDS, argMultimap);
+        givenOrder = patient -> clauses.stream().allMatch(clause -> clause.test(patient));
+    }
+
+    @Benchmark
+    public int compiledPlan() {
+        return countMatches(compiledPlan);
+    }
+
+    @Benchmark
+    public int predicateTree() {
+        return countMatches(predicateTree);
+    }
+
+    @Benchmark
+    public int givenOrder() {
+        return countMatches(givenOrder);
+    }
+
+    private int countMatches(Predicate<Patient> predicate) {
+        int count = 0;
+        for (Patient patient : patients) {
+            if (predicate.test(patient)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the descriptors combined as a tree of the predicates of every detail, the way they were tested before
+     * being compiled.
+     */
+    private static Predicate<Patient> predicateTree(List<String> keywords, ArgumentMultimap argMultimap) {
+        Predicate<Patient> anyDetail = new PersonContainsKeywordsPredicate(keywords)::test;
+        List<Predicate<? super Patient>> allDescriptors = List.of(
+                anyDetail.or(new ConditionContainsKeywordsPredicate(keywords))
+                        .or(new TaskContainsKeywordsPredicate(keywords))
+                        .or(new MedicationContainsKeywordsPredicate(keywords))
+                        .or(new RemarkContainsKeywordsPredicate(keywords)),
+                new PhoneContainsKeywordsPredicate(argMultimap.getAllValues(PREFIX_PHONE)),
+                new TagContainsKeywordsPredicate(argMultimap.getAllValues(PREFIX_TAG)),
+                new TaskContainsKeywordsPredicate(argMultimap.getAllValues(PREFIX_TASK_DESCRIPTION)));
+        return patient -> allDescriptors.stream().allMatch(predicate -> predicate.test(patient));
+    }
+
+    private static Patient generatePatient(Random random, int id) {
+        List<Tag> tags = new ArrayList<>();
+        List<Condition> conditions = new ArrayList<>();
+        List<Medication> medications = new ArrayList<>();
+        ArrayList<Task> tasks = new ArrayList<>();
+        List<Remark> remarks = new ArrayList<>();
+        for (int i = random.nextInt(3); i > 0; i--) {
+            tags.add(new Tag(word(random) + i));
+            conditions.add(new Condition(word(random) + " " + word(random)));
+            medications.add(new Medication(word(random), (1 + random.nextInt(9)) + " mg"));
+            remarks.add(new Remark(word(random) + " " + word(random) + " " + word(random)));
+        }
+        for (int i = random.nextInt(6); i > 0; i--) {
+            tasks.add(new NonRecurringTask(word(random) + " " + word(random),
+                    new DateTime((1 + random.nextInt(28)) + "-" + (1 + random.nextInt(12)) + "-22 0900")));
+        }
+        return new Patient(new Name("Patient " + word(random).replace("-", " ") + " " + id),
+                new Phone(String.valueOf(80000000 + random.nextInt(20000000))),
+                new Email(word(random) + id + "@example.com"),
+                new Address(random.nextInt(500) + " " + word(random) + " street"),
+                new TagList(tags), new ConditionList(conditions), new MedicationList(medications),
+                new TaskList(tasks), new RemarkList(remarks));
+    }
+
+    private static String word(Random random) {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+}
@@ -2,10 +2,12 @@ package seedu.uninurse;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Clock;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.uninurse.commons.core.Config;
 import seedu.uninurse.commons.core.LogsCenter;
@@ -15,6 +17,7 @@ import seedu.uninurse.commons.util.ConfigUtil;
 import seedu.uninurse.commons.util.StringUtil;
 import seedu.uninurse.logic.Logic;
 import seedu.uninurse.logic.LogicManager;
+import seedu.uninurse.logic.TaskRolloverScheduler;
 import seedu.uninurse.model.Model;
 import seedu.uninurse.model.ModelManager;
 import seedu.uninurse.model.ReadOnlyUninurseBook;
@@ -22,6 +25,7 @@ import seedu.uninurse.model.ReadOnlyUserPrefs;
 import seedu.uninurse.model.UninurseBook;
 import seedu.uninurse.model.UserPrefs;
 import seedu.uninurse.model.util.SampleDataUtil;
+import seedu.uninurse.storage.JournalUninurseBookStorage;
 import seedu.uninurse.storage.JsonUninurseBookStorage;
 import seedu.uninurse.storage.JsonUserPrefsStorage;
 import seedu.uninurse.storage.Storage;
@@ -45,6 +49,7 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected TaskRolloverScheduler taskRolloverScheduler;
 
     @Override
     public void init() throws Exception {
@@ -56,7 +61,7 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        UninurseBookStorage uninurseBookStorage = new JsonUninurseBookStorage(userPrefs.getUninurseBookFilePath());
+        UninurseBookStorage uninurseBookStorage = initUninurseBookStorage(userPrefs);
         storage = new StorageManager(uninurseBookStorage, userPrefsStorage);
 
         initLogging(config);
@@ -65,9 +70,32 @@ public class MainApp extends Application {
 
         logic = new LogicManager(model, storage);
 
+        taskRolloverScheduler = new TaskRolloverScheduler(model, logic, Platform::runLater);
+
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the {@code UninurseBookStorage} for the data file in {@code userPrefs}, which journals the changes
+     * to the data file instead of rewriting it if the config says so.
+     */
+    private UninurseBookStorage initUninurseBookStorage(ReadOnlyUserPrefs userPrefs) {
+        JsonUninurseBookStorage jsonUninurseBookStorage = new JsonUninurseBookStorage(
+                userPrefs.getUninurseBookFilePath(), JsonUninurseBookStorage.DEFAULT_BACKUP_COUNT,
+                config.isCompactDataFile());
+        if (!config.isJournalDataFile()) {
+            return jsonUninurseBookStorage;
+        }
+
+        int compactionInterval = config.getJournalCompactionInterval();
+        if (compactionInterval <= 0) {
+            logger.warning("Journal compaction interval in config file is not positive. "
+                    + "Using the default journal compaction interval");
+            compactionInterval = Config.DEFAULT_JOURNAL_COMPACTION_INTERVAL;
+        }
+        return new JournalUninurseBookStorage(jsonUninurseBookStorage, compactionInterval);
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s uninurse book and {@code userPrefs}. <br>
      * The data from the sample uninurse book will be used instead if {@code storage}'s uninurse book is not found,
@@ -90,7 +118,19 @@ public class MainApp extends Application {
             initialData = new UninurseBook();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        int undoLimit = config.getUndoLimit();
+        if (undoLimit < 0) {
+            logger.warning("Undo limit in config file is negative. Using the default undo limit");
+            undoLimit = Config.DEFAULT_UNDO_LIMIT;
+        }
+
+        long undoByteBudget = config.getUndoByteBudget();
+        if (undoByteBudget <= 0) {
+            logger.warning("Undo byte budget in config file is not positive. Using the default undo byte budget");
+            undoByteBudget = Config.DEFAULT_UNDO_BYTE_BUDGET;
+        }
+
+        return new ModelManager(initialData, userPrefs, undoLimit, undoByteBudget, Clock.systemDefaultZone());
     }
 
     private void initLogging(Config config) {
@@ -169,11 +209,19 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting UninurseBook " + MainApp.VERSION);
         ui.start(primaryStage);
+        taskRolloverScheduler.start();
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping UniNurse Book ] =============================");
+        taskRolloverScheduler.stop();
+        try {
+            logic.flush();
+            storage.compactUninurseBook(model.getUninurseBookSnapshot());
+        } catch (IOException e) {
+            logger.severe("Failed to save uninurse book " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -11,11 +11,18 @@ import java.util.logging.Level;
 public class Config {
     public static final Path DEFAULT_CONFIG_FILE = Paths.get("config.json");
     public static final int HISTORY_SIZE_LIMIT = 100;
-    public static final int UNDO_LIMIT = 100;
+    public static final int DEFAULT_UNDO_LIMIT = 100;
+    public static final long DEFAULT_UNDO_BYTE_BUDGET = 64L * 1024 * 1024;
+    public static final int DEFAULT_JOURNAL_COMPACTION_INTERVAL = 100;
 
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private int undoLimit = DEFAULT_UNDO_LIMIT;
+    private long undoByteBudget = DEFAULT_UNDO_BYTE_BUDGET;
+    private boolean compactDataFile = false;
+    private boolean journalDataFile = false;
+    private int journalCompactionInterval = DEFAULT_JOURNAL_COMPACTION_INTERVAL;
 
     public Level getLogLevel() {
         return logLevel;
@@ -33,6 +40,46 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public int getUndoLimit() {
+        return undoLimit;
+    }
+
+    public void setUndoLimit(int undoLimit) {
+        this.undoLimit = undoLimit;
+    }
+
+    public long getUndoByteBudget() {
+        return undoByteBudget;
+    }
+
+    public void setUndoByteBudget(long undoByteBudget) {
+        this.undoByteBudget = undoByteBudget;
+    }
+
+    public boolean isCompactDataFile() {
+        return compactDataFile;
+    }
+
+    public void setCompactDataFile(boolean compactDataFile) {
+        this.compactDataFile = compactDataFile;
+    }
+
+    public boolean isJournalDataFile() {
+        return journalDataFile;
+    }
+
+    public void setJournalDataFile(boolean journalDataFile) {
+        this.journalDataFile = journalDataFile;
+    }
+
+    public int getJournalCompactionInterval() {
+        return journalCompactionInterval;
+    }
+
+    public void setJournalCompactionInterval(int journalCompactionInterval) {
+        this.journalCompactionInterval = journalCompactionInterval;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -45,12 +92,18 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && undoLimit == o.undoLimit
+                && undoByteBudget == o.undoByteBudget
+                && compactDataFile == o.compactDataFile
+                && journalDataFile == o.journalDataFile
+                && journalCompactionInterval == o.journalCompactionInterval;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, undoLimit, undoByteBudget, compactDataFile,
+                journalDataFile, journalCompactionInterval);
     }
 
     @Override
@@ -58,6 +111,11 @@ public class Config {
         StringBuilder sb = new StringBuilder();
         sb.append("Current log level : " + logLevel);
         sb.append("\nPreference file Location : " + userPrefsFilePath);
+        sb.append("\nUndo limit : " + undoLimit);
+        sb.append("\nUndo byte budget : " + undoByteBudget);
+        sb.append("\nCompact data file : " + compactDataFile);
+        sb.append("\nJournal data file : " + journalDataFile);
+        sb.append("\nJournal compaction interval : " + journalCompactionInterval);
         return sb.toString();
     }
 }
@@ -1,16 +1,29 @@
 package seedu.uninurse.commons.util;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final String BACKUP_FILE_SUFFIX = ".bak";
+    private static final int BUFFER_SIZE = 64 * 1024;
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -71,11 +84,136 @@ public class FileUtil {
         return new String(Files.readAllBytes(file), CHARSET);
     }
 
+    /**
+     * Returns a buffered stream over the content of the file, which the caller has to close.
+     * Assumes file exists
+     */
+    public static InputStream openFile(Path file) throws IOException {
+        return new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE);
+    }
+
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        writeToFile(file, out -> out.write(content.getBytes(CHARSET)));
+    }
+
+    /**
+     * Writes to a file through the buffered stream given to contentWriter, without holding the whole content
+     * in memory. Will create the file if it does not exist yet.
+     * The content is written to a temporary file in the same directory, forced to the disk and then moved over
+     * the file, so the file holds either its previous content or the whole new content even if the app crashes.
+     * The directory is forced to the disk after the move, so the new content is not lost with the move either.
+     */
+    public static void writeToFile(Path file, ContentWriter contentWriter) throws IOException {
+        createParentDirsOfFile(file);
+        Path directory = file.toAbsolutePath().getParent();
+        Path tempFile = Files.createTempFile(directory, "." + file.getFileName(), TEMP_FILE_SUFFIX);
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE);
+                contentWriter.writeTo(out);
+                out.flush();
+                channel.force(true);
+            }
+            // The temporary file is only readable by its owner, which would otherwise replace the permissions of the
+            // file on every write
+            copyPermissions(file, tempFile);
+            moveAtomically(tempFile, file);
+            forceDirectory(directory);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Appends given string to a file and forces it to the disk.
+     * Will create the file if it does not exist yet.
+     */
+    public static void appendToFile(Path file, String content) throws IOException {
+        createParentDirsOfFile(file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(content.getBytes(CHARSET));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Keeps the current content of the file as its newest backup, and shifts older backups back by one.
+     * The oldest backup is discarded once there are backupCount backups. Does nothing if the file does not exist.
+     */
+    public static void rotateBackups(Path file, int backupCount) throws IOException {
+        if (backupCount <= 0 || !isFileExists(file)) {
+            return;
+        }
+
+        Files.deleteIfExists(getBackupPath(file, backupCount));
+        for (int index = backupCount - 1; index >= 1; index--) {
+            Path backup = getBackupPath(file, index);
+            if (Files.exists(backup)) {
+                moveAtomically(backup, getBackupPath(file, index + 1));
+            }
+        }
+
+        // A hard link keeps the current content without copying it, since the file is replaced rather than rewritten
+        Path newestBackup = getBackupPath(file, 1);
+        try {
+            Files.createLink(newestBackup, file);
+        } catch (UnsupportedOperationException | IOException e) {
+            Files.copy(file, newestBackup, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Returns the path of the backup of the file with the given index, where backup 1 is the newest backup.
+     */
+    public static Path getBackupPath(Path file, int index) {
+        return file.resolveSibling(file.getFileName() + BACKUP_FILE_SUFFIX + index);
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void copyPermissions(Path source, Path target) throws IOException {
+        if (!Files.exists(source)) {
+            return;
+        }
+
+        try {
+            Files.setPosixFilePermissions(target, Files.getPosixFilePermissions(source));
+        } catch (UnsupportedOperationException e) {
+            // The file system has no POSIX permissions, so the temporary file was not restricted by them either
+        }
+    }
+
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Some platforms, like Windows, cannot open directories, and make the move as durable as they can anyway
+        }
+    }
+
+    /**
+     * Writes the content of a file to a stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Writes the content to the given stream, without closing it.
+         */
+        void writeTo(OutputStream out) throws IOException;
     }
 }
@@ -0,0 +1,141 @@
+package seedu.uninurse.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Matches a text against many keywords at once, in a single pass over the text.
+ * The keywords are compiled into an Aho-Corasick automaton, so the cost of a match grows with the length of the
+ * text rather than with the number of keywords. A single keyword is matched with {@link String#contains}.
+ * Keywords and texts are compared as they are, so both should be normalized with
+ * {@link StringUtil#toSearchKey(String)} to match them ignoring case.
+ */
+public class KeywordMatcher {
+    private static final int ROOT = 0;
+
+    private final String singleKeyword;
+    private final boolean matchesEverything;
+    // The characters that appear in the keywords, sorted, which number the columns of the transition table
+    private final char[] alphabet;
+    private final int[][] transitions;
+    private final boolean[] accepting;
+
+    /**
+     * Compiles a {@code KeywordMatcher} that matches any text that contains any of the given keywords.
+     */
+    public KeywordMatcher(List<String> keywords) {
+        requireNonNull(keywords);
+        singleKeyword = keywords.size() == 1 ? keywords.get(0) : null;
+        matchesEverything = keywords.contains("");
+        if (singleKeyword != null || matchesEverything || keywords.isEmpty()) {
+            alphabet = new char[0];
+            transitions = new int[0][];
+            accepting = new boolean[0];
+            return;
+        }
+
+        alphabet = toAlphabet(keywords);
+        List<int[]> trie = new ArrayList<>();
+        List<Boolean> isKeywordEnd = new ArrayList<>();
+        trie.add(newState());
+        isKeywordEnd.add(false);
+        for (String keyword : keywords) {
+            int state = ROOT;
+            for (int i = 0; i < keyword.length(); i++) {
+                int symbol = Arrays.binarySearch(alphabet, keyword.charAt(i));
+                if (trie.get(state)[symbol] == ROOT) {
+                    trie.get(state)[symbol] = trie.size();
+                    trie.add(newState());
+                    isKeywordEnd.add(false);
+                }
+                state = trie.get(state)[symbol];
+            }
+            isKeywordEnd.set(state, true);
+        }
+
+        transitions = trie.toArray(new int[0][]);
+        accepting = new boolean[transitions.length];
+        for (int state = 0; state < accepting.length; state++) {
+            accepting[state] = isKeywordEnd.get(state);
+        }
+        addFailureTransitions();
+    }
+
+    /**
+     * Returns true if the text contains any of the keywords of this matcher.
+     */
+    public boolean matches(String text) {
+        if (singleKeyword != null) {
+            return text.contains(singleKeyword);
+        }
+        if (matchesEverything) {
+            return true;
+        }
+        if (transitions.length == 0) {
+            return false;
+        }
+
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            int symbol = Arrays.binarySearch(alphabet, text.charAt(i));
+            // A character that no keyword contains can only be followed by the start of a keyword
+            state = symbol < 0 ? ROOT : transitions[state][symbol];
+            if (accepting[state]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Turns the trie of the keywords into an automaton by following the failure links of every state breadth
+     * first, so that every missing transition leads to the state of the longest keyword prefix that still matches.
+     */
+    private void addFailureTransitions() {
+        int[] failure = new int[transitions.length];
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int symbol = 0; symbol < alphabet.length; symbol++) {
+            int child = transitions[ROOT][symbol];
+            if (child != ROOT) {
+                failure[child] = ROOT;
+                queue.add(child);
+            }
+        }
+
+        while (!queue.isEmpty()) {
+            int state = queue.remove();
+            // A keyword that ends inside a longer match still counts as found
+            accepting[state] |= accepting[failure[state]];
+            for (int symbol = 0; symbol < alphabet.length; symbol++) {
+                int child = transitions[state][symbol];
+                if (child == ROOT) {
+                    transitions[state][symbol] = transitions[failure[state]][symbol];
+                } else {
+                    failure[child] = transitions[failure[state]][symbol];
+                    queue.add(child);
+                }
+            }
+        }
+    }
+
+    private int[] newState() {
+        return new int[alphabet.length];
+    }
+
+    private static char[] toAlphabet(List<String> keywords) {
+        char[] characters = String.join("", keywords).toCharArray();
+        Arrays.sort(characters);
+        int distinctCount = 0;
+        for (char character : characters) {
+            if (distinctCount == 0 || characters[distinctCount - 1] != character) {
+                characters[distinctCount++] = character;
+            }
+        }
+        return Arrays.copyOf(characters, distinctCount);
+    }
+}
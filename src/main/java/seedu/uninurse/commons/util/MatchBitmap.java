@@ -0,0 +1,139 @@
+package seedu.uninurse.commons.util;
+
+import static seedu.uninurse.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Predicate;
+
+/**
+ * A bitmap of the positions of the items of a list that satisfy a predicate.
+ * When the list has at least a given number of items, the predicate is tested in parallel: the list is split
+ * into ranges of whole words of the bitmap, which are tested by the common fork-join pool, so no two tasks write
+ * to the same word. The predicate must then be safe to test from several threads, and the list must not change
+ * while the bitmap is computed.
+ */
+public class MatchBitmap {
+    private static final int BITS_PER_WORD = Long.SIZE;
+    // The number of words tested by a single task, so that the tasks are not too small to be worth forking
+    private static final int WORDS_PER_TASK = 16;
+
+    private final long[] words;
+    private final int size;
+
+    private MatchBitmap(long[] words, int size) {
+        this.words = words;
+        this.size = size;
+    }
+
+    /**
+     * Returns the bitmap of the items of the list that satisfy the predicate, testing them in parallel if there
+     * are at least parallelThreshold items.
+     */
+    public static <T> MatchBitmap of(List<? extends T> items, Predicate<? super T> predicate, int parallelThreshold) {
+        requireAllNonNull(items, predicate);
+        long[] words = new long[(items.size() + BITS_PER_WORD - 1) / BITS_PER_WORD];
+        if (items.size() >= parallelThreshold) {
+            ForkJoinPool.commonPool().invoke(new MatchTask<>(items, predicate, words, 0, words.length));
+        } else {
+            match(items, predicate, words, 0, words.length);
+        }
+        return new MatchBitmap(words, items.size());
+    }
+
+    /**
+     * Sets the bits of the items in the given range of words that satisfy the predicate.
+     */
+    private static <T> void match(List<? extends T> items, Predicate<? super T> predicate, long[] words,
+            int fromWord, int toWord) {
+        int toIndex = Math.min(toWord * BITS_PER_WORD, items.size());
+        for (int index = fromWord * BITS_PER_WORD; index < toIndex; index++) {
+            if (predicate.test(items.get(index))) {
+                words[index / BITS_PER_WORD] |= 1L << (index % BITS_PER_WORD);
+            }
+        }
+    }
+
+    /**
+     * Returns true if the item at the given position satisfies the predicate.
+     */
+    public boolean get(int index) {
+        assert index >= 0 && index < size;
+        return (words[index / BITS_PER_WORD] & (1L << (index % BITS_PER_WORD))) != 0;
+    }
+
+    /**
+     * Returns the number of items that satisfy the predicate.
+     */
+    public int cardinality() {
+        int cardinality = 0;
+        for (long word : words) {
+            cardinality += Long.bitCount(word);
+        }
+        return cardinality;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns a predicate that looks up the result of each of the given items, which the bitmap was computed from,
+     * as long as they are tested in the order of the list, which is how a filtered list tests its items when its
+     * predicate is set. Any other item is tested with fallback. The items and the bitmap are released once the last
+     * of them is looked up, so the predicate only holds on to them until the list has been filtered once.
+     */
+    public <T> Predicate<T> lookUpInOrder(List<? extends T> items, Predicate<? super T> fallback) {
+        requireAllNonNull(items, fallback);
+        assert items.size() == size;
+        Object[] itemsInOrder = items.toArray();
+        return new Predicate<>() {
+            private Object[] remainingItems = itemsInOrder.length > 0 ? itemsInOrder : null;
+            private int nextIndex = 0;
+
+            @Override
+            public boolean test(T item) {
+                if (remainingItems == null || remainingItems[nextIndex] != item) {
+                    return fallback.test(item);
+                }
+                boolean result = get(nextIndex++);
+                if (nextIndex == remainingItems.length) {
+                    remainingItems = null;
+                }
+                return result;
+            }
+        };
+    }
+
+    /**
+     * Tests the items in a range of words of the bitmap, splitting the range in halves while it is large.
+     */
+    private static class MatchTask<T> extends RecursiveAction {
+        private final List<? extends T> items;
+        private final Predicate<? super T> predicate;
+        private final long[] words;
+        private final int fromWord;
+        private final int toWord;
+
+        MatchTask(List<? extends T> items, Predicate<? super T> predicate, long[] words, int fromWord, int toWord) {
+            this.items = items;
+            this.predicate = predicate;
+            this.words = words;
+            this.fromWord = fromWord;
+            this.toWord = toWord;
+        }
+
+        @Override
+        protected void compute() {
+            if (toWord - fromWord <= WORDS_PER_TASK) {
+                match(items, predicate, words, fromWord, toWord);
+                return;
+            }
+
+            int middleWord = (fromWord + toWord) >>> 1;
+            invokeAll(new MatchTask<>(items, predicate, words, fromWord, middleWord),
+                    new MatchTask<>(items, predicate, words, middleWord, toWord));
+        }
+    }
+}
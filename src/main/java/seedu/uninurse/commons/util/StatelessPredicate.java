@@ -0,0 +1,11 @@
+package seedu.uninurse.commons.util;
+
+import java.util.function.Predicate;
+
+/**
+ * A predicate whose result depends only on the item it tests and the current time, and that neither reads nor
+ * changes any shared mutable state, so it can be tested from several threads at once.
+ * Only predicates marked this way are tested in parallel by {@link MatchBitmap} callers such as parallel find.
+ */
+@FunctionalInterface
+public interface StatelessPredicate<T> extends Predicate<T> {}
@@ -5,6 +5,8 @@ import static seedu.uninurse.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Helper functions for handling strings.
@@ -55,7 +57,50 @@ public class StringUtil {
     public static boolean containsIgnoreCase(String sentence, String word) {
         requireNonNull(sentence);
         requireNonNull(word);
-        return sentence.trim().toLowerCase().contains(word.trim().toLowerCase());
+        return toSearchKey(sentence).contains(toSearchKey(word));
+    }
+
+    /**
+     * Returns the text normalized in the way {@link #containsIgnoreCase(String, String)} compares it.
+     *
+     * @param text a string that cannot be null
+     */
+    public static String toSearchKey(String text) {
+        requireNonNull(text);
+        return text.trim().toLowerCase();
+    }
+
+    /**
+     * Returns the given texts normalized in the way {@link #containsIgnoreCase(String, String)} compares them.
+     *
+     * @param texts a list of strings that cannot be null
+     */
+    public static List<String> toSearchKeys(List<String> texts) {
+        requireNonNull(texts);
+        List<String> searchKeys = new ArrayList<>(texts.size());
+        for (String text : texts) {
+            searchKeys.add(toSearchKey(text));
+        }
+        return searchKeys;
+    }
+
+    /**
+     * Returns true if the search key contains any of the search keywords.
+     * Both have to be normalized with {@link #toSearchKey(String)} already, so that no string is built here.
+     * examples:
+     * containsAnySearchKey("abc def", List.of("xyz", "c d")) == true
+     * containsAnySearchKey("abc def", List.of("xyz")) == false
+     *
+     * @param searchKey      a normalized string that cannot be null
+     * @param searchKeywords a list of normalized strings that cannot be null
+     */
+    public static boolean containsAnySearchKey(String searchKey, List<String> searchKeywords) {
+        for (int i = 0; i < searchKeywords.size(); i++) {
+            if (searchKey.contains(searchKeywords.get(i))) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
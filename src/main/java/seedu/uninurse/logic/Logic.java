@@ -1,6 +1,9 @@
 package seedu.uninurse.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.uninurse.commons.core.GuiSettings;
@@ -27,6 +30,23 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Saves the UninurseBook in the background if it has changed since it was last saved.
+     */
+    void requestSave();
+
+    /**
+     * Sets the handler that is given the result of every background save, empty if the save succeeded.
+     * The handler is called on the thread that saves in the background.
+     */
+    void setSaveResultHandler(Consumer<Optional<IOException>> saveResultHandler);
+
+    /**
+     * Saves the changes to the UninurseBook that have not been saved yet.
+     * @throws IOException If an error occurs while saving.
+     */
+    void flush() throws IOException;
+
     /**
      * Returns the UninurseBook.
      *
@@ -2,6 +2,8 @@ package seedu.uninurse.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -13,11 +15,14 @@ import seedu.uninurse.logic.commands.exceptions.CommandException;
 import seedu.uninurse.logic.parser.UninurseBookParser;
 import seedu.uninurse.logic.parser.exceptions.ParseException;
 import seedu.uninurse.model.Model;
+import seedu.uninurse.model.ModelClock;
 import seedu.uninurse.model.PersonListTracker;
 import seedu.uninurse.model.ReadOnlyUninurseBook;
 import seedu.uninurse.model.Schedule;
+import seedu.uninurse.model.UninurseBookSnapshot;
 import seedu.uninurse.model.person.Patient;
 import seedu.uninurse.model.person.Person;
+import seedu.uninurse.storage.DebouncedUninurseBookSaver;
 import seedu.uninurse.storage.Storage;
 
 /**
@@ -25,24 +30,44 @@ import seedu.uninurse.storage.Storage;
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    public static final long DEFAULT_SAVE_DELAY_MILLIS = 500;
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
     private final UninurseBookParser uninurseBookParser;
+    private final DebouncedUninurseBookSaver uninurseBookSaver;
+
+    private UninurseBookSnapshot lastSavedUninurseBook;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, DEFAULT_SAVE_DELAY_MILLIS);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which saves the
+     * uninurse book in the background saveDelayMillis milliseconds after a command changes it.
+     */
+    public LogicManager(Model model, Storage storage, long saveDelayMillis) {
         this.model = model;
-        this.storage = storage;
         uninurseBookParser = new UninurseBookParser();
+        uninurseBookSaver = new DebouncedUninurseBookSaver(storage, saveDelayMillis);
+        // The book the model starts with is already stored, so it is only saved once it changes
+        lastSavedUninurseBook = model.getUninurseBookSnapshot();
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
+        // Every check against the current time during the command sees the same time
+        try (ModelClock.CapturedNow capturedNow = model.captureNow()) {
+            return executeCommand(commandText);
+        }
+    }
+
+    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
         model.updatePersons(); // Update persons before command is executed in case of CommandException
 
         CommandResult commandResult;
@@ -50,18 +75,41 @@ public class LogicManager implements Logic {
         commandResult = command.execute(model);
 
         model.updatePersons(); // Update persons after command is executed
-        try {
-            storage.saveUninurseBook(model.getUninurseBook());
-            if (command.isUndoable()) {
-                model.makeSnapshot(commandResult);
-            }
-        } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+        model.refreshList(); // Filter the persons the command added or replaced again, like the patients for today
+        if (command.isUndoable()) {
+            model.makeSnapshot(commandResult);
         }
 
+        requestSave();
         return commandResult;
     }
 
+    @Override
+    public void requestSave() {
+        // A failed save is retried with the latest uninurse book, even if its lists have not changed since
+        if (uninurseBookSaver.takeFailure().isPresent()) {
+            lastSavedUninurseBook = null;
+        }
+
+        // Only save when a command or a rollover of tasks added, removed or replaced a person, which read-only
+        // commands never do
+        UninurseBookSnapshot uninurseBook = model.getUninurseBookSnapshot();
+        if (!uninurseBook.hasSameListsAs(lastSavedUninurseBook)) {
+            uninurseBookSaver.requestSave(uninurseBook);
+            lastSavedUninurseBook = uninurseBook;
+        }
+    }
+
+    @Override
+    public void setSaveResultHandler(Consumer<Optional<IOException>> saveResultHandler) {
+        uninurseBookSaver.setResultHandler(saveResultHandler);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        uninurseBookSaver.flush();
+    }
+
     @Override
     public ReadOnlyUninurseBook getUninurseBook() {
         return model.getUninurseBook();
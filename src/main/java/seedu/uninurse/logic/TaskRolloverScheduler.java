@@ -0,0 +1,113 @@
+package seedu.uninurse.logic;
+
+import static seedu.uninurse.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.uninurse.commons.core.LogsCenter;
+import seedu.uninurse.model.Model;
+import seedu.uninurse.model.ModelClock;
+import seedu.uninurse.model.person.Patient;
+import seedu.uninurse.model.task.DateTime;
+
+/**
+ * Rolls recurring tasks over in the background once they become due, instead of waiting for the next command.
+ * A timer thread sleeps until the earliest recurring task is due and then hands a rollover to the UI executor,
+ * which rolls over every task that has become due by then in a single batch, refreshes the displayed list and
+ * requests the rolled over tasks to be saved.
+ * The model is only touched on the UI executor, so it is never accessed from two threads at once.
+ * The timer is set again when a change of the patient list changes when the next task is due, so a batch of edits
+ * that leaves it as it is does not set the timer again for every edit.
+ */
+public class TaskRolloverScheduler {
+    private static final Logger logger = LogsCenter.getLogger(TaskRolloverScheduler.class);
+
+    private final Model model;
+    private final Logic logic;
+    private final Executor uiExecutor;
+    private final ScheduledExecutorService timer;
+    // Kept so the listener stays registered for as long as this scheduler is alive
+    private final ObservableList<Patient> patients;
+    private final ListChangeListener<Patient> patientListListener = change -> scheduleNextRollover();
+
+    private ScheduledFuture<?> scheduledRollover;
+    // The date and time the pending rollover is set for, or empty if there is none
+    private Optional<DateTime> scheduledRolloverDateTime = Optional.empty();
+
+    /**
+     * Creates a {@code TaskRolloverScheduler} that rolls over the recurring tasks of the given model on the
+     * given UI executor, and saves them through the given logic.
+     */
+    public TaskRolloverScheduler(Model model, Logic logic, Executor uiExecutor) {
+        requireAllNonNull(model, logic, uiExecutor);
+        this.model = model;
+        this.logic = logic;
+        this.uiExecutor = uiExecutor;
+        this.patients = model.getPatientList();
+        this.timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "task-rollover-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts rolling over recurring tasks. Must be called on the UI executor.
+     */
+    public void start() {
+        patients.addListener(patientListListener);
+        rollOver();
+    }
+
+    /**
+     * Stops rolling over recurring tasks. Must be called on the UI executor.
+     */
+    public void stop() {
+        patients.removeListener(patientListListener);
+        timer.shutdownNow();
+    }
+
+    /**
+     * Rolls over every recurring task that is due, saves them and sets the timer for the next one.
+     */
+    private void rollOver() {
+        try (ModelClock.CapturedNow capturedNow = model.captureNow()) {
+            model.updatePersons();
+            model.refreshList();
+            logic.requestSave();
+            scheduleNextRollover();
+        }
+    }
+
+    private void scheduleNextRollover() {
+        Optional<DateTime> nextRollover = model.getNextRolloverDateTime();
+        // A batch of edits changes the patient list once per edit, but most of them do not move the next rollover
+        boolean isPending = scheduledRollover != null && !scheduledRollover.isDone();
+        if (isPending && nextRollover.equals(scheduledRolloverDateTime)) {
+            return;
+        }
+
+        if (scheduledRollover != null) {
+            scheduledRollover.cancel(false);
+            scheduledRollover = null;
+            scheduledRolloverDateTime = Optional.empty();
+        }
+        if (timer.isShutdown() || nextRollover.isEmpty()) {
+            return;
+        }
+        // Tasks are due once the minute they are set at has passed
+        long delayMillis = Math.max(0, nextRollover.get().getDurationFromNow().toMillis()) + 1;
+        logger.fine("Next recurring task rollover in " + delayMillis + " ms");
+        scheduledRollover = timer.schedule(() -> uiExecutor.execute(this::rollOver), delayMillis,
+                TimeUnit.MILLISECONDS);
+        scheduledRolloverDateTime = nextRollover;
+    }
+}
@@ -0,0 +1,102 @@
+package seedu.uninurse.logic.commands;
+
+import static seedu.uninurse.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.uninurse.logic.parser.CliSyntax.PREFIX_OPTION_PATIENT_INDEX;
+import static seedu.uninurse.logic.parser.CliSyntax.PREFIX_TASK_DESCRIPTION;
+import static seedu.uninurse.logic.parser.CliSyntax.SPECIAL_CHARACTER_ALL;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.uninurse.logic.commands.exceptions.CommandException;
+import seedu.uninurse.model.Model;
+import seedu.uninurse.model.PersonListTracker;
+import seedu.uninurse.model.exceptions.PatientNotFoundException;
+import seedu.uninurse.model.person.Patient;
+import seedu.uninurse.model.person.Person;
+import seedu.uninurse.model.task.Task;
+
+/**
+ * Adds a task to every patient in the displayed patient list as a single undoable command.
+ */
+public class AddTaskToAllCommand extends AddGenericCommand {
+    public static final String MESSAGE_USAGE = COMMAND_WORD + " " + PREFIX_OPTION_PATIENT_INDEX + " "
+            + SPECIAL_CHARACTER_ALL + ": Adds a task to every patient in the displayed patient list.\n"
+            + "Format: " + COMMAND_WORD + " " + PREFIX_OPTION_PATIENT_INDEX + " " + SPECIAL_CHARACTER_ALL + " "
+            + PREFIX_TASK_DESCRIPTION + "TASK_DESCRIPTION | <DATE TIME> | <INTERVAL TIME_PERIOD>\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_OPTION_PATIENT_INDEX + " " + SPECIAL_CHARACTER_ALL + " "
+            + PREFIX_TASK_DESCRIPTION + "Check vitals | 22-4-22 0800 | 1 day\n";
+    public static final String MESSAGE_SUCCESS = "New task added to %1$d patients: %2$s";
+    public static final String MESSAGE_NO_PATIENTS = "There are no patients in the displayed list";
+    public static final String MESSAGE_ALL_DUPLICATE =
+            "This task already exists in every displayed patient's task list";
+    public static final CommandType COMMAND_TYPE = CommandType.LIST_TASK;
+
+    private final Task task;
+
+    /**
+     * Creates an AddTaskToAllCommand to add a Task to every displayed patient.
+     *
+     * @param task to be added to every displayed patient.
+     */
+    public AddTaskToAllCommand(Task task) {
+        requireAllNonNull(task);
+
+        this.task = task;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireAllNonNull(model);
+        List<Person> lastShownList = new ArrayList<>(model.getFilteredPersonList());
+
+        List<Patient> patientsToEdit = new ArrayList<>();
+        List<Patient> editedPatients = new ArrayList<>();
+        boolean hasPatients = false;
+
+        for (Person person : lastShownList) {
+            Patient patientToEdit;
+            try {
+                patientToEdit = model.getPatient(person);
+            } catch (PatientNotFoundException pnfe) {
+                continue;
+            }
+            hasPatients = true;
+
+            // Patients who already have the task are left as they are
+            if (patientToEdit.getTasks().contains(task)) {
+                continue;
+            }
+            patientsToEdit.add(patientToEdit);
+            editedPatients.add(new Patient(patientToEdit, patientToEdit.getTasks().add(task)));
+        }
+
+        if (!hasPatients) {
+            throw new CommandException(MESSAGE_NO_PATIENTS);
+        }
+        if (patientsToEdit.isEmpty()) {
+            throw new CommandException(MESSAGE_ALL_DUPLICATE);
+        }
+
+        PersonListTracker personListTracker = model.setPatients(patientsToEdit, editedPatients);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, editedPatients.size(), task),
+                COMMAND_TYPE, personListTracker);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        // short circuit if same object
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddTaskToAllCommand)) {
+            return false;
+        }
+
+        // state check
+        AddTaskToAllCommand o = (AddTaskToAllCommand) other;
+        return task.equals(o.task);
+    }
+}
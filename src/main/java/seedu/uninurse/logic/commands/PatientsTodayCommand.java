@@ -3,11 +3,12 @@ package seedu.uninurse.logic.commands;
 import static seedu.uninurse.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.uninurse.logic.parser.CliSyntax.SPECIAL_CHARACTER_TODAY;
 import static seedu.uninurse.model.Model.PREDICATE_SHOW_ALL_PERSONS;
-import static seedu.uninurse.model.Model.PREDICATE_SHOW_PATIENTS_FOR_TODAY;
 
-import java.time.LocalDateTime;
+import java.util.List;
 
 import seedu.uninurse.model.Model;
+import seedu.uninurse.model.ModelClock;
+import seedu.uninurse.model.PatientTask;
 import seedu.uninurse.model.Schedule;
 import seedu.uninurse.model.task.DateTime;
 
@@ -24,14 +25,16 @@ public class PatientsTodayCommand extends DisplayTasksGenericCommand {
     @Override
     public CommandResult execute(Model model) {
         requireAllNonNull(model);
-        model.updateFilteredPatientList(PREDICATE_SHOW_PATIENTS_FOR_TODAY);
+        DateTime today = new DateTime(ModelClock.now());
+        List<PatientTask> tasksToday = model.getTasksOnDay(today);
 
-        if (model.getFilteredPersonList().isEmpty()) {
+        if (tasksToday.isEmpty()) {
             model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
             return new CommandResult(MESSAGE_FAILURE, CommandType.EMPTY);
         }
 
-        model.setSchedule(new Schedule(model.getPatientList(), new DateTime(LocalDateTime.now())));
+        model.updateFilteredPatientListForToday();
+        model.setSchedule(new Schedule(tasksToday, today));
         return new CommandResult(MESSAGE_SUCCESS, COMMAND_TYPE);
     }
 }
@@ -3,8 +3,11 @@ package seedu.uninurse.logic.commands;
 import static seedu.uninurse.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.uninurse.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
+import java.util.List;
+
 import seedu.uninurse.logic.commands.exceptions.CommandException;
 import seedu.uninurse.model.Model;
+import seedu.uninurse.model.PatientTask;
 import seedu.uninurse.model.Schedule;
 import seedu.uninurse.model.task.DateTime;
 
@@ -36,13 +39,13 @@ public class TasksOnCommand extends DisplayTasksGenericCommand {
     public CommandResult execute(Model model) throws CommandException {
         requireAllNonNull(model);
 
-        if (model.getPatientList().filtered(p -> !(p.getTasks()
-                .getAllTasksOnDay(dayToCheck).isEmpty())).isEmpty()) {
+        List<PatientTask> tasksOnDay = model.getTasksOnDay(dayToCheck);
+        if (tasksOnDay.isEmpty()) {
             model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
             return new CommandResult(String.format(MESSAGE_FAILURE, dayToCheck.getDate()), CommandType.EMPTY);
         }
 
-        model.setSchedule(new Schedule(model.getPatientList(), dayToCheck));
+        model.setSchedule(new Schedule(tasksOnDay, dayToCheck));
         return new CommandResult(String.format(MESSAGE_SUCCESS, dayToCheck.getDate()), COMMAND_TYPE);
     }
 
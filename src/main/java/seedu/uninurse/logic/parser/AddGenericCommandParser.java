@@ -9,6 +9,7 @@ import static seedu.uninurse.logic.parser.CliSyntax.PREFIX_OPTION_PATIENT_INDEX;
 import static seedu.uninurse.logic.parser.CliSyntax.PREFIX_REMARK;
 import static seedu.uninurse.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.uninurse.logic.parser.CliSyntax.PREFIX_TASK_DESCRIPTION;
+import static seedu.uninurse.logic.parser.CliSyntax.SPECIAL_CHARACTER_ALL;
 
 import seedu.uninurse.logic.commands.AddGenericCommand;
 import seedu.uninurse.logic.parser.exceptions.ParseException;
@@ -45,6 +46,11 @@ public class AddGenericCommandParser implements Parser<AddGenericCommand> {
 
         String patientIndex = options.getValue(PREFIX_OPTION_PATIENT_INDEX).get();
 
+        if (patientIndex.equals(SPECIAL_CHARACTER_ALL)
+                && ParserUtil.parametersExactlyContains(parameters, PREFIX_TASK_DESCRIPTION)) {
+            return new AddTaskToAllCommandParser().parse(args);
+        }
+
         if (ParserUtil.parametersExactlyContains(parameters, PREFIX_TASK_DESCRIPTION)) {
             return new AddTaskCommandParser().parse(patientIndex + " " + args);
         }
@@ -0,0 +1,36 @@
+package seedu.uninurse.logic.parser;
+
+import static seedu.uninurse.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.uninurse.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.uninurse.logic.parser.CliSyntax.PREFIX_TASK_DESCRIPTION;
+
+import seedu.uninurse.logic.commands.AddTaskToAllCommand;
+import seedu.uninurse.logic.parser.exceptions.ParseException;
+import seedu.uninurse.model.task.Task;
+
+/**
+ * Parses input arguments and creates a new {@code AddTaskToAllCommand}.
+ */
+public class AddTaskToAllCommandParser implements Parser<AddTaskToAllCommand> {
+    /**
+     * Parses the given String of arguments in the context of the AddTaskToAllCommand
+     * and returns an AddTaskToAllCommand object for execution.
+     *
+     * @param args The given user input to be parsed, without the patient index option.
+     * @return AddTaskToAllCommand.
+     * @throws ParseException if the user input does not conform the expected format.
+     */
+    public AddTaskToAllCommand parse(String args) throws ParseException {
+        requireAllNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TASK_DESCRIPTION);
+
+        if (!argMultimap.getPreamble().isEmpty() || argMultimap.getValue(PREFIX_TASK_DESCRIPTION).isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    AddTaskToAllCommand.MESSAGE_USAGE));
+        }
+
+        Task newTask = ParserUtil.parseTask(argMultimap.getValue(PREFIX_TASK_DESCRIPTION).get());
+
+        return new AddTaskToAllCommand(newTask);
+    }
+}
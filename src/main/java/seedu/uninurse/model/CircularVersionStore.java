@@ -0,0 +1,100 @@
+package seedu.uninurse.model;
+
+import static seedu.uninurse.commons.util.AppUtil.checkArgument;
+
+/**
+ * A fixed-capacity store of versions backed by a circular array.
+ * Versions are indexed from 0 (the oldest retained version) to size - 1 (the newest version).
+ * Adding a version to a full store evicts the oldest version, so appending, evicting and truncating the newest
+ * versions never shift the remaining versions.
+ *
+ * @param <T> the type of versions in the store.
+ */
+public class CircularVersionStore<T> {
+    public static final String MESSAGE_CONSTRAINTS = "Capacity should be a positive integer";
+
+    private final Object[] versions;
+    private int head;
+    private int size;
+
+    /**
+     * Creates an empty store that retains at most {@code capacity} versions.
+     */
+    public CircularVersionStore(int capacity) {
+        checkArgument(capacity > 0, MESSAGE_CONSTRAINTS);
+        this.versions = new Object[capacity];
+        this.head = 0;
+        this.size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return versions.length;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the version at the given index, where index 0 is the oldest retained version.
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        checkIndex(index);
+        return (T) versions[slotOf(index)];
+    }
+
+    public boolean isFull() {
+        return size == versions.length;
+    }
+
+    /**
+     * Adds a version after the newest version, evicting the oldest version if the store is full.
+     */
+    public void add(T version) {
+        if (isFull()) {
+            removeOldest();
+        }
+        versions[slotOf(size)] = version;
+        size++;
+    }
+
+    /**
+     * Removes and returns the oldest version.
+     */
+    @SuppressWarnings("unchecked")
+    public T removeOldest() {
+        checkIndex(0);
+        T oldest = (T) versions[head];
+        versions[head] = null;
+        head = (head + 1) % versions.length;
+        size--;
+        return oldest;
+    }
+
+    /**
+     * Discards every version from the given index onwards in O(1).
+     * Only the end of the store moves back, and the discarded slots are overwritten by the versions added later.
+     * Until then they keep their versions from being garbage collected, but never more than the capacity of the store.
+     */
+    public void truncate(int fromIndex) {
+        if (fromIndex < 0 || fromIndex > size) {
+            throw new IndexOutOfBoundsException("Index: " + fromIndex + ", Size: " + size);
+        }
+        size = fromIndex;
+    }
+
+    private int slotOf(int index) {
+        return (head + index) % versions.length;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+}
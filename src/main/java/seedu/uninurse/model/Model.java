@@ -2,14 +2,20 @@ package seedu.uninurse.model;
 
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import javafx.collections.ObservableList;
 import seedu.uninurse.commons.core.GuiSettings;
+import seedu.uninurse.commons.util.StatelessPredicate;
 import seedu.uninurse.logic.commands.CommandResult;
 import seedu.uninurse.model.exceptions.PatientNotFoundException;
 import seedu.uninurse.model.person.Patient;
+import seedu.uninurse.model.person.PatientMatchPredicate;
 import seedu.uninurse.model.person.Person;
+import seedu.uninurse.model.task.DateTime;
 
 /**
  * The API of the Model component.
@@ -19,8 +25,7 @@ public interface Model {
      * Predicate for the model to use.
      */
     Predicate<Person> PREDICATE_SHOW_ALL_PERSONS = unused -> true;
-    Predicate<Patient> PREDICATE_SHOW_PATIENTS_FOR_TODAY = patient -> patient.getTasks().containsTaskToday();
-    Predicate<Patient> PREDICATE_SHOW_PATIENTS_TASK = patient -> !(patient.getTasks().isEmpty());
+    StatelessPredicate<Patient> PREDICATE_SHOW_PATIENTS_TASK = patient -> !(patient.getTasks().isEmpty());
 
     //=========== UserPrefs =================================================================================
 
@@ -61,6 +66,11 @@ public interface Model {
      */
     ReadOnlyUninurseBook getUninurseBook();
 
+    /**
+     * Returns an immutable snapshot of the UninurseBook as it is now, which is safe to read from other threads.
+     */
+    UninurseBookSnapshot getUninurseBookSnapshot();
+
     /**
      * Replaces uninurse book data with the data in uninurseBook.
      */
@@ -97,6 +107,14 @@ public interface Model {
      */
     PersonListTracker setPatient(Patient patient, Patient editedPatient);
 
+    /**
+     * Replaces each patient in patients with the editedPatient at the same position in editedPatients,
+     * as a single change tracked by the returned {@code PersonListTracker}.
+     * Every patient must exist in the uninurse book.
+     * The patient identity of an editedPatient must not be the same as another existing patient in the uninurse book.
+     */
+    PersonListTracker setPatients(List<Patient> patients, List<Patient> editedPatients);
+
     /**
      * Deletes the given person.
      * The person must exist in the uninurse book.
@@ -125,11 +143,30 @@ public interface Model {
 
     /**
      * Updates the filter of the filtered person list to filter by the given predicate.
+     * If the predicate is a {@code StatelessPredicate} and the list has at least as many persons as the parallel
+     * find threshold of the user prefs, they are tested in parallel. Any other predicate is tested by the caller
+     * only. The parallel mode still blocks the caller until every person is tested, and then filters the list in one
+     * operation, so the filtered list is never seen half filtered and the result of the command can count it right
+     * away.
      *
      * @throws NullPointerException if predicate is null.
      */
     void updateFilteredPatientList(Predicate<Patient> predicate);
 
+    /**
+     * Updates the filter of the filtered person list to the patients that match the given find predicate.
+     * The patients are found with the search index of the uninurse book instead of testing every patient.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void updateFilteredPatientList(PatientMatchPredicate predicate);
+
+    /**
+     * Updates the filter of the filtered person list to the patients with tasks due today.
+     * The patients are looked up once, and again on every {@link #refreshList()}, so the list keeps showing the
+     * patients for the current day as they are replaced and the day changes, until the filter is updated again.
+     */
+    void updateFilteredPatientListForToday();
+
     //=========== Filtered Person Accessors =================================================================
 
     /**
@@ -144,6 +181,24 @@ public interface Model {
      */
     ObservableList<Patient> getPatientList();
 
+    /**
+     * Returns the tasks of all patients that are due on the given day, in order of date and time.
+     */
+    List<PatientTask> getTasksOnDay(DateTime day);
+
+    /**
+     * Returns the patients with any task due on the given day. Patients are compared by reference.
+     */
+    Set<Patient> getPatientsOnDay(DateTime day);
+
+    /**
+     * Returns the tasks of all patients that are due from the given date and time up to and including the other,
+     * in order of date and time.
+     * The tasks are found lazily as the stream is consumed, so the stream must be consumed before the uninurse
+     * book changes.
+     */
+    Stream<PatientTask> getTasksBetween(DateTime from, DateTime to);
+
     //=========== Other Accessors ===========================================================================
 
     /**
@@ -187,7 +242,21 @@ public interface Model {
     void updatePersons();
 
     /**
-     * Refreshes the FilteredList in Model
+     * Returns the earliest date and time a recurring task has to be rolled over by {@link #updatePersons()}.
+     */
+    Optional<DateTime> getNextRolloverDateTime();
+
+    /**
+     * Captures the current time of the clock of the model for the calling thread until the returned
+     * {@code CapturedNow} is closed, so that every check against the current time agrees with the others.
+     */
+    ModelClock.CapturedNow captureNow();
+
+    /**
+     * Refreshes the FilteredList in Model.
+     * Only the persons added by the command that made the current version, and the patients whose tasks have passed
+     * or moved in or out of today since the last refresh, are filtered again, in a single change. While the patients
+     * for today are listed, they are looked up again first.
      */
     void refreshList();
 
@@ -217,4 +286,9 @@ public interface Model {
      * Makes a snapshot of the current UninurseBook.
      */
     void makeSnapshot(CommandResult commandResult);
+
+    /**
+     * Returns the number of versions in the undo history and the memory they are estimated to retain.
+     */
+    UndoHistoryStats getUndoHistoryStats();
 }
@@ -0,0 +1,106 @@
+package seedu.uninurse.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.function.Predicate;
+
+/**
+ * The current date and time that the model reads, as captured for the calling thread.
+ * A command captures the current time of the clock of its model once with {@link #captureNow(Clock)}, so every check
+ * against the current time made on the same thread while it runs agrees with the others and does not read the clock
+ * again. Work that the command hands to other threads shares its time through {@link #withCurrentNow(Predicate)}.
+ * Checks made while no time is captured read the system clock in the default time-zone.
+ */
+public class ModelClock {
+    private static final long MILLIS_PER_DAY = 24 * 60 * 60 * 1000;
+
+    private static final ThreadLocal<Reading> capturedReading = new ThreadLocal<>();
+
+    private ModelClock() {}
+
+    /**
+     * Captures the current time of the given clock for the calling thread until the returned {@code CapturedNow} is
+     * closed. Capturing the time again while it is captured keeps the time that was captured first.
+     */
+    public static CapturedNow captureNow(Clock clock) {
+        requireNonNull(clock);
+        if (capturedReading.get() != null) {
+            return () -> {};
+        }
+        capturedReading.set(new Reading(LocalDateTime.now(clock)));
+        return capturedReading::remove;
+    }
+
+    /**
+     * Returns a predicate that tests items with the current time of the calling thread, read once now, on whichever
+     * thread it is tested, so that a predicate tested in parallel agrees with the command that created it.
+     */
+    public static <T> Predicate<T> withCurrentNow(Predicate<T> predicate) {
+        requireNonNull(predicate);
+        Reading reading = getReading();
+        return item -> {
+            if (capturedReading.get() != null) {
+                return predicate.test(item);
+            }
+            capturedReading.set(reading);
+            try {
+                return predicate.test(item);
+            } finally {
+                capturedReading.remove();
+            }
+        };
+    }
+
+    public static LocalDateTime now() {
+        return getReading().dateTime;
+    }
+
+    public static LocalDate today() {
+        return now().toLocalDate();
+    }
+
+    /**
+     * Returns the number of days since the epoch of the current date.
+     */
+    public static long getEpochDay() {
+        return Math.floorDiv(getReading().localEpochMillis, MILLIS_PER_DAY);
+    }
+
+    /**
+     * Returns the number of milliseconds since the epoch of the current date and time on the local time-line.
+     */
+    public static long getLocalEpochMillis() {
+        return getReading().localEpochMillis;
+    }
+
+    private static Reading getReading() {
+        Reading reading = capturedReading.get();
+        return reading != null ? reading : new Reading(LocalDateTime.now());
+    }
+
+    /**
+     * A captured current time, which is released when closed.
+     */
+    @FunctionalInterface
+    public interface CapturedNow extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    /**
+     * A single reading of the clock.
+     */
+    private static class Reading {
+        private final LocalDateTime dateTime;
+        private final long localEpochMillis;
+
+        private Reading(LocalDateTime dateTime) {
+            this.dateTime = dateTime;
+            this.localEpochMillis = dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+        }
+    }
+}
@@ -3,21 +3,34 @@ package seedu.uninurse.model;
 import static seedu.uninurse.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import seedu.uninurse.commons.core.Config;
 import seedu.uninurse.commons.core.GuiSettings;
 import seedu.uninurse.commons.core.LogsCenter;
+import seedu.uninurse.commons.util.MatchBitmap;
+import seedu.uninurse.commons.util.StatelessPredicate;
 import seedu.uninurse.logic.commands.CommandResult;
 import seedu.uninurse.model.exceptions.PatientOfInterestNotFoundException;
 import seedu.uninurse.model.exceptions.ScheduleNotFoundException;
 import seedu.uninurse.model.person.Patient;
+import seedu.uninurse.model.person.PatientMatchPredicate;
 import seedu.uninurse.model.person.Person;
+import seedu.uninurse.model.task.DateTime;
 
 /**
  * Represents the in-memory model of the uninurse book data.
@@ -28,26 +41,52 @@ public class ModelManager implements Model {
     private final PersistentUninurseBook persistentUninurseBook;
 
     private final UserPrefs userPrefs;
+    private final Clock clock;
+    private final RefreshableList<Person> refreshablePersons;
     private final FilteredList<Person> filteredPersons;
 
     private Optional<Patient> patientOfInterest;
     private Optional<Schedule> schedule;
+    // The patients shown while the patients for today are listed, as of the last refresh
+    private Optional<Set<Patient>> patientsForToday;
     private PersonListTracker personListTracker;
+    // What depends on the current time is up to date as of this time
+    private DateTime lastRefreshed;
 
     /**
      * Initializes a ModelManager with the given uninurseBook and userPrefs.
      */
     public ModelManager(ReadOnlyUninurseBook uninurseBook, ReadOnlyUserPrefs userPrefs) {
-        requireAllNonNull(uninurseBook, userPrefs);
+        this(uninurseBook, userPrefs, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Initializes a ModelManager with the given uninurseBook and userPrefs that reads the current time from clock.
+     */
+    public ModelManager(ReadOnlyUninurseBook uninurseBook, ReadOnlyUserPrefs userPrefs, Clock clock) {
+        this(uninurseBook, userPrefs, Config.DEFAULT_UNDO_LIMIT, Config.DEFAULT_UNDO_BYTE_BUDGET, clock);
+    }
+
+    /**
+     * Initializes a ModelManager with the given uninurseBook and userPrefs that reads the current time from clock,
+     * keeping at most undoLimit versions of the uninurseBook to undo within an estimated undoByteBudget bytes.
+     */
+    public ModelManager(ReadOnlyUninurseBook uninurseBook, ReadOnlyUserPrefs userPrefs, int undoLimit,
+            long undoByteBudget, Clock clock) {
+        requireAllNonNull(uninurseBook, userPrefs, clock);
 
         logger.fine("Initializing with uninurse book: " + uninurseBook + " and user prefs " + userPrefs);
 
         this.userPrefs = new UserPrefs(userPrefs);
-        this.persistentUninurseBook = new PersistentUninurseBook(uninurseBook);
-        this.filteredPersons = new FilteredList<>(this.persistentUninurseBook.getWorkingCopy().getPersonList());
+        this.clock = clock;
+        this.persistentUninurseBook = new PersistentUninurseBook(uninurseBook, undoLimit, undoByteBudget);
+        this.refreshablePersons = new RefreshableList<>(this.persistentUninurseBook.getWorkingCopy().getPersonList());
+        this.filteredPersons = new FilteredList<>(refreshablePersons);
         this.patientOfInterest = Optional.empty();
         this.schedule = Optional.empty();
+        this.patientsForToday = Optional.empty();
         this.personListTracker = new PersonListTracker();
+        this.lastRefreshed = new DateTime(LocalDateTime.now(clock));
     }
 
     public ModelManager() {
@@ -96,6 +135,11 @@ public class ModelManager implements Model {
         return persistentUninurseBook.getWorkingCopy();
     }
 
+    @Override
+    public UninurseBookSnapshot getUninurseBookSnapshot() {
+        return persistentUninurseBook.getWorkingCopySnapshot();
+    }
+
     @Override
     public void setUninurseBook(ReadOnlyUninurseBook uninurseBook) {
         persistentUninurseBook.getWorkingCopy().resetData(uninurseBook);
@@ -133,6 +177,14 @@ public class ModelManager implements Model {
         return new PersonListTracker(Optional.of(Arrays.asList(editedPatient)), Optional.of(Arrays.asList(patient)));
     }
 
+    @Override
+    public PersonListTracker setPatients(List<Patient> patients, List<Patient> editedPatients) {
+        requireAllNonNull(patients, editedPatients);
+        persistentUninurseBook.getWorkingCopy().setPatients(patients, editedPatients);
+        return new PersonListTracker(Optional.of(new ArrayList<>(editedPatients)),
+                Optional.of(new ArrayList<>(patients)));
+    }
+
     @Override
     public PersonListTracker deletePerson(Person person) {
         persistentUninurseBook.getWorkingCopy().removePerson(person);
@@ -161,13 +213,56 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireAllNonNull(predicate);
+        patientsForToday = Optional.empty();
         filteredPersons.setPredicate(predicate);
     }
 
     @Override
     public void updateFilteredPatientList(Predicate<Patient> predicate) {
         requireAllNonNull(predicate);
-        filteredPersons.setPredicate(person -> predicate.test(getPatient(person)));
+        patientsForToday = Optional.empty();
+        try (ModelClock.CapturedNow capturedNow = captureNow()) {
+            filterPatients(predicate);
+        }
+    }
+
+    private void filterPatients(Predicate<Patient> predicate) {
+        Predicate<Person> personPredicate = person -> predicate.test(getPatient(person));
+        ObservableList<? extends Person> persons = filteredPersons.getSource();
+        int parallelThreshold = userPrefs.getParallelFindThreshold();
+        // Other predicates may read state that is not safe to read from several threads, like the caches of the
+        // task calendar, so they are always tested by the caller
+        if (persons.size() < parallelThreshold || !(predicate instanceof StatelessPredicate)) {
+            filteredPersons.setPredicate(personPredicate);
+            return;
+        }
+
+        // The persons are tested in parallel first, so that filtering the list only looks the results up. The workers
+        // test them at the time of the caller, so that they agree with the rest of the command. The caller waits for
+        // them, so the list is filtered in one go before the command reports how many patients are listed
+        MatchBitmap matched = MatchBitmap.of(persons, ModelClock.withCurrentNow(personPredicate), parallelThreshold);
+        logger.fine("Tested " + persons.size() + " persons in parallel, " + matched.cardinality() + " matched");
+        // Persons added or replaced later are tested directly
+        filteredPersons.setPredicate(matched.lookUpInOrder(persons, personPredicate));
+    }
+
+    @Override
+    public void updateFilteredPatientList(PatientMatchPredicate predicate) {
+        requireAllNonNull(predicate);
+        patientsForToday = Optional.empty();
+        filteredPersons.setPredicate(persistentUninurseBook.getWorkingCopy().getPatientMatcher(predicate.getClauses(),
+                userPrefs.getParallelFindThreshold()));
+    }
+
+    @Override
+    public void updateFilteredPatientListForToday() {
+        try (ModelClock.CapturedNow capturedNow = captureNow()) {
+            patientsForToday = Optional.of(getPatientsOnDay(new DateTime(ModelClock.now())));
+        }
+        // The filter only reads the patients looked up here, never the task calendar, whose caches change as they are
+        // read. The patients that replace others or move in or out of today are updated by refreshList
+        filteredPersons.setPredicate(person -> patientsForToday.map(patients -> patients.contains(person))
+                .orElse(false));
     }
 
     //=========== Filtered Person Accessors =================================================================
@@ -183,6 +278,24 @@ public class ModelManager implements Model {
         return persistentUninurseBook.getWorkingCopy().getPatientList();
     }
 
+    @Override
+    public List<PatientTask> getTasksOnDay(DateTime day) {
+        requireAllNonNull(day);
+        return persistentUninurseBook.getWorkingCopy().getTasksOnDay(day);
+    }
+
+    @Override
+    public Set<Patient> getPatientsOnDay(DateTime day) {
+        requireAllNonNull(day);
+        return persistentUninurseBook.getWorkingCopy().getPatientsOnDay(day);
+    }
+
+    @Override
+    public Stream<PatientTask> getTasksBetween(DateTime from, DateTime to) {
+        requireAllNonNull(from, to);
+        return persistentUninurseBook.getWorkingCopy().getTasksBetween(from, to);
+    }
+
     //=========== Other Accessors ===========================================================================
 
     @Override
@@ -217,15 +330,50 @@ public class ModelManager implements Model {
 
     @Override
     public void updatePersons() {
-        persistentUninurseBook.getWorkingCopy().updatePersons();
+        try (ModelClock.CapturedNow capturedNow = captureNow()) {
+            Map<Patient, Patient> replacements = persistentUninurseBook.updatePersons();
+            // The patient of interest is shown with its tasks, so it follows its rolled over copy
+            patientOfInterest = patientOfInterest.map(patient -> replacements.getOrDefault(patient, patient));
+        }
+    }
+
+    @Override
+    public Optional<DateTime> getNextRolloverDateTime() {
+        return persistentUninurseBook.getWorkingCopy().getNextRolloverDateTime();
+    }
+
+    @Override
+    public ModelClock.CapturedNow captureNow() {
+        return ModelClock.captureNow(clock);
     }
 
     @Override
     public void refreshList() {
-        Predicate<? super Person> predicate = filteredPersons.getPredicate();
-        filteredPersons.setPredicate(PREDICATE_SHOW_ALL_PERSONS);
-        filteredPersons.setPredicate(predicate);
+        Set<Person> personsToRefresh = Collections.newSetFromMap(new IdentityHashMap<>());
+        persistentUninurseBook.findCurrentPersonListTracker().flatMap(PersonListTracker::getAddedPersons)
+                .ifPresent(personsToRefresh::addAll);
+        try (ModelClock.CapturedNow capturedNow = captureNow()) {
+            // Otherwise only what depends on the current time can be stale: the patients with tasks that have passed
+            // since the last refresh, and once the day has changed, those with tasks on the previous day or today
+            DateTime now = new DateTime(ModelClock.now());
+            getTasksBetween(lastRefreshed, now).forEach(patientTask -> personsToRefresh.add(patientTask.getPatient()));
+            if (!lastRefreshed.toLocalDate().equals(now.toLocalDate())) {
+                getPatientsOnDay(lastRefreshed).forEach(personsToRefresh::add);
+                getPatientsOnDay(now).forEach(personsToRefresh::add);
+            }
+            // The patients for today follow the current day, and the copies that replaced the patients shown
+            patientsForToday.ifPresent(patientsShown -> {
+                Set<Patient> patientsNow = getPatientsOnDay(now);
+                patientsShown.stream().filter(patient -> !patientsNow.contains(patient)).forEach(personsToRefresh::add);
+                patientsNow.stream().filter(patient -> !patientsShown.contains(patient)).forEach(personsToRefresh::add);
+                patientsForToday = Optional.of(patientsNow);
+            });
+            lastRefreshed = now;
+        }
+        // Only the refreshed persons are filtered again, the others keep their results
+        refreshablePersons.refresh(personsToRefresh);
     }
+
     //=========== Undo and Redo =============================================================================
 
     @Override
@@ -253,6 +401,11 @@ public class ModelManager implements Model {
         persistentUninurseBook.makeSnapshot(commandResult);
     }
 
+    @Override
+    public UndoHistoryStats getUndoHistoryStats() {
+        return persistentUninurseBook.getUndoHistoryStats();
+    }
+
     @Override
     public boolean equals(Object other) {
         // short circuit if same object
@@ -0,0 +1,438 @@
+package seedu.uninurse.model;
+
+import static seedu.uninurse.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener.Change;
+import seedu.uninurse.commons.util.KeywordMatcher;
+import seedu.uninurse.commons.util.MatchBitmap;
+import seedu.uninurse.commons.util.StringUtil;
+import seedu.uninurse.model.condition.Condition;
+import seedu.uninurse.model.medication.Medication;
+import seedu.uninurse.model.person.Patient;
+import seedu.uninurse.model.person.Person;
+import seedu.uninurse.model.remark.Remark;
+import seedu.uninurse.model.tag.Tag;
+import seedu.uninurse.model.task.Task;
+
+/**
+ * An inverted index of the details of a list of patients, which finds the patients whose details contain find
+ * keywords without testing every patient.
+ * Every detail is indexed by the trigrams of its search key, which is normalized in the same way as
+ * {@code StringUtil#containsIgnoreCase}. A keyword of at least three characters can only be contained in a detail
+ * that contains every trigram of the keyword, so only the patients with all of them are checked. Shorter keywords
+ * are checked against the normalized details of every patient.
+ * Candidates are always checked against their normalized details, so the patients found are exactly those that
+ * contain the keywords as substrings.
+ * The index is kept in sync by applying the changes of the patient list to it.
+ */
+public class PatientSearchIndex {
+    private static final int GRAM_LENGTH = 3;
+    private static final int MAX_LOGGED_CHANGES = 1024;
+
+    /**
+     * The details of a patient that can be searched, each with the relative cost of checking it.
+     * Phones and tags are short, so they are the cheapest to check, and tasks are the most expensive since there
+     * are often many of them.
+     */
+    public enum Field {
+        PHONE(1), EMAIL(3), NAME(3), ADDRESS(4), TAG(2), CONDITION(5), MEDICATION(5), REMARK(6), TASK(8);
+
+        private final int cost;
+
+        Field(int cost) {
+            this.cost = cost;
+        }
+
+        public int getCost() {
+            return cost;
+        }
+    }
+
+    private final Map<Field, Map<String, Set<Patient>>> postings = new EnumMap<>(Field.class);
+    // Patients are matched by reference, which is cheaper than comparing all their details
+    private final Map<Patient, String[][]> indexedDetails = new IdentityHashMap<>();
+    // The patients added or removed by the latest changes of the index, the last of them by the current version
+    private final ArrayDeque<Patient> changedPatients = new ArrayDeque<>();
+    private long version;
+
+    /**
+     * Constructs an empty {@code PatientSearchIndex}.
+     */
+    public PatientSearchIndex() {
+        for (Field field : Field.values()) {
+            postings.put(field, new HashMap<>());
+        }
+    }
+
+    /**
+     * Applies the given change of the patient list to this index.
+     */
+    public void applyChange(Change<? extends Patient> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                continue;
+            }
+            if (change.wasRemoved()) {
+                change.getRemoved().forEach(this::removePatient);
+            }
+            if (change.wasAdded()) {
+                change.getAddedSubList().forEach(this::addPatient);
+            }
+        }
+    }
+
+    /**
+     * Returns the patients that satisfy every clause. Patients are compared by reference.
+     * The candidates are found with the clause that narrows them down the most, and are checked against the clauses
+     * from the cheapest to the most expensive, in parallel if there are at least parallelThreshold of them.
+     */
+    public Set<Patient> find(List<Clause> clauses, int parallelThreshold) {
+        requireAllNonNull(clauses);
+        Set<Patient> matches = newPatientSet();
+        if (clauses.isEmpty()) {
+            matches.addAll(indexedDetails.keySet());
+            return matches;
+        }
+
+        List<Clause> plan = new ArrayList<>(clauses);
+        plan.sort(Comparator.comparingInt(Clause::getCost));
+        List<Patient> candidates = new ArrayList<>(findFewestCandidates(plan));
+        MatchBitmap matched = MatchBitmap.of(candidates, candidate ->
+                matches(indexedDetails.get(candidate), plan), parallelThreshold);
+        for (int i = 0; i < candidates.size(); i++) {
+            if (matched.get(i)) {
+                matches.add(candidates.get(i));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns a predicate that tests whether a person is a patient that satisfies every clause.
+     * The patients that match are found with the index on the first test, and are then kept up to date by checking
+     * only the patients added or removed by each change of the index, so testing every person of the list after a
+     * change costs a check of the changed patients. After a change of more patients than the index keeps track of,
+     * such as replacing the whole list, the patients that match are found again. A patient that is not indexed yet
+     * is tested directly. The candidates of a search are checked in parallel if there are at least
+     * parallelThreshold of them.
+     * The predicate holds on to the patients that match for as long as it is referenced, such as while it filters
+     * a list.
+     */
+    public Predicate<Person> matcher(List<Clause> clauses, int parallelThreshold) {
+        requireAllNonNull(clauses);
+        return new Predicate<>() {
+            private long matchedVersion = -1;
+            private Set<Patient> matchedPatients;
+
+            @Override
+            public boolean test(Person person) {
+                if (!indexedDetails.containsKey(person)) {
+                    return person instanceof Patient && matches(normalizedDetails((Patient) person), clauses);
+                }
+                if (matchedVersion != version) {
+                    updateMatchedPatients();
+                }
+                return matchedPatients.contains(person);
+            }
+
+            private void updateMatchedPatients() {
+                long missedChanges = version - matchedVersion;
+                if (matchedPatients == null || missedChanges > changedPatients.size()) {
+                    matchedPatients = find(clauses, parallelThreshold);
+                    matchedVersion = version;
+                    return;
+                }
+
+                // The patients are checked as they are indexed now, so a patient changed more than once is only
+                // checked for its latest change
+                Iterator<Patient> latestChanges = changedPatients.descendingIterator();
+                for (long i = 0; i < missedChanges; i++) {
+                    Patient patient = latestChanges.next();
+                    String[][] details = indexedDetails.get(patient);
+                    if (details != null && matches(details, clauses)) {
+                        matchedPatients.add(patient);
+                    } else {
+                        matchedPatients.remove(patient);
+                    }
+                }
+                matchedVersion = version;
+            }
+        };
+    }
+
+    private Set<Patient> findFewestCandidates(List<Clause> clauses) {
+        Set<Patient> fewestCandidates = indexedDetails.keySet();
+        for (Clause clause : clauses) {
+            Set<Patient> candidates = findCandidates(clause);
+            if (candidates.size() < fewestCandidates.size()) {
+                fewestCandidates = candidates;
+            }
+            if (fewestCandidates.isEmpty()) {
+                break;
+            }
+        }
+        return fewestCandidates;
+    }
+
+    private Set<Patient> findCandidates(Clause clause) {
+        Set<Patient> candidates = newPatientSet();
+        for (String keyword : clause.keywords) {
+            if (keyword.length() < GRAM_LENGTH) {
+                // Too short to narrow down with trigrams, so every patient is a candidate
+                return indexedDetails.keySet();
+            }
+            for (Field field : clause.fields) {
+                candidates.addAll(findCandidates(field, keyword));
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the patients with a detail in the given field that contains every trigram of the keyword.
+     */
+    private Set<Patient> findCandidates(Field field, String keyword) {
+        Map<String, Set<Patient>> fieldPostings = postings.get(field);
+        Set<Patient> smallestPosting = null;
+        List<Set<Patient>> otherPostings = new ArrayList<>();
+        for (String gram : grams(keyword)) {
+            Set<Patient> posting = fieldPostings.get(gram);
+            if (posting == null) {
+                return Set.of();
+            }
+            if (smallestPosting == null || posting.size() < smallestPosting.size()) {
+                if (smallestPosting != null) {
+                    otherPostings.add(smallestPosting);
+                }
+                smallestPosting = posting;
+            } else {
+                otherPostings.add(posting);
+            }
+        }
+
+        Set<Patient> candidates = newPatientSet();
+        for (Patient patient : smallestPosting) {
+            if (otherPostings.stream().allMatch(posting -> posting.contains(patient))) {
+                candidates.add(patient);
+            }
+        }
+        return candidates;
+    }
+
+    private static boolean matches(String[][] details, List<Clause> clauses) {
+        for (Clause clause : clauses) {
+            if (!clause.matches(details)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void addPatient(Patient patient) {
+        String[][] details = normalizedDetails(patient);
+        indexedDetails.put(patient, details);
+        for (Field field : Field.values()) {
+            Map<String, Set<Patient>> fieldPostings = postings.get(field);
+            for (String gram : grams(details[field.ordinal()])) {
+                fieldPostings.computeIfAbsent(gram, unused -> newPatientSet()).add(patient);
+            }
+        }
+        logChange(patient);
+    }
+
+    private void removePatient(Patient patient) {
+        String[][] details = indexedDetails.remove(patient);
+        if (details == null) {
+            return;
+        }
+        for (Field field : Field.values()) {
+            Map<String, Set<Patient>> fieldPostings = postings.get(field);
+            for (String gram : grams(details[field.ordinal()])) {
+                Set<Patient> posting = fieldPostings.get(gram);
+                posting.remove(patient);
+                if (posting.isEmpty()) {
+                    fieldPostings.remove(gram);
+                }
+            }
+        }
+        logChange(patient);
+    }
+
+    private void logChange(Patient patient) {
+        changedPatients.addLast(patient);
+        if (changedPatients.size() > MAX_LOGGED_CHANGES) {
+            changedPatients.removeFirst();
+        }
+        version++;
+    }
+
+    /**
+     * Returns the distinct trigrams of the given normalized details.
+     */
+    private static Set<String> grams(String... details) {
+        Set<String> grams = new HashSet<>();
+        for (String detail : details) {
+            for (int i = 0; i + GRAM_LENGTH <= detail.length(); i++) {
+                grams.add(detail.substring(i, i + GRAM_LENGTH));
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * Returns the searchable details of the patient by field, using the search keys cached by the details.
+     */
+    private static String[][] normalizedDetails(Patient patient) {
+        String[][] details = new String[Field.values().length][];
+        details[Field.NAME.ordinal()] = new String[] {patient.getName().getSearchKey()};
+        details[Field.PHONE.ordinal()] = new String[] {patient.getPhone().getSearchKey()};
+        details[Field.EMAIL.ordinal()] = new String[] {patient.getEmail().getSearchKey()};
+        details[Field.ADDRESS.ordinal()] = new String[] {patient.getAddress().getSearchKey()};
+        details[Field.TAG.ordinal()] = searchKeys(patient.getTags().getInternalList(), Tag::getSearchKey);
+        details[Field.TASK.ordinal()] = searchKeys(patient.getTasks().getInternalList(), Task::getSearchKey);
+        details[Field.CONDITION.ordinal()] =
+                searchKeys(patient.getConditions().getInternalList(), Condition::getSearchKey);
+        details[Field.MEDICATION.ordinal()] =
+                searchKeys(patient.getMedications().getInternalList(), Medication::getSearchKey);
+        details[Field.REMARK.ordinal()] = searchKeys(patient.getRemarks().getInternalList(), Remark::getSearchKey);
+        return details;
+    }
+
+    private static <T> String[] searchKeys(List<T> details, Function<T, String> searchKey) {
+        String[] searchKeys = new String[details.size()];
+        int i = 0;
+        for (T detail : details) {
+            searchKeys[i++] = searchKey.apply(detail);
+        }
+        return searchKeys;
+    }
+
+    private static Set<Patient> newPatientSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * A condition that a patient satisfies if any of its fields contains any of its keywords, ignoring case.
+     * A clause is compiled once: its keywords are matched together by a {@code KeywordMatcher}, and its fields are
+     * checked from the cheapest to the most expensive, so that a patient can be tested without building anything.
+     */
+    public static class Clause {
+        private final Set<Field> fields;
+        private final List<String> keywords;
+        private final Field[] fieldsByCost;
+        private final KeywordMatcher matcher;
+
+        /**
+         * Creates a {@code Clause} that matches the given keywords against the given fields.
+         */
+        public Clause(Set<Field> fields, List<String> keywords) {
+            requireAllNonNull(fields, keywords);
+            this.fields = EnumSet.copyOf(fields);
+            this.keywords = StringUtil.toSearchKeys(keywords);
+            this.fieldsByCost = this.fields.toArray(new Field[0]);
+            Arrays.sort(fieldsByCost, Comparator.comparingInt(Field::getCost));
+            this.matcher = new KeywordMatcher(this.keywords);
+        }
+
+        /**
+         * Returns the relative cost of testing a patient against this clause, by the fields it has to check.
+         */
+        public int getCost() {
+            int cost = 0;
+            for (Field field : fieldsByCost) {
+                cost += field.getCost();
+            }
+            return cost;
+        }
+
+        /**
+         * Returns true if the patient satisfies this clause.
+         */
+        public boolean test(Patient patient) {
+            for (Field field : fieldsByCost) {
+                if (matches(patient, field)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean matches(Patient patient, Field field) {
+            switch (field) {
+            case PHONE:
+                return matcher.matches(patient.getPhone().getSearchKey());
+            case EMAIL:
+                return matcher.matches(patient.getEmail().getSearchKey());
+            case NAME:
+                return matcher.matches(patient.getName().getSearchKey());
+            case ADDRESS:
+                return matcher.matches(patient.getAddress().getSearchKey());
+            case TAG:
+                return matchesAny(patient.getTags().getInternalList(), Tag::getSearchKey);
+            case CONDITION:
+                return matchesAny(patient.getConditions().getInternalList(), Condition::getSearchKey);
+            case MEDICATION:
+                return matchesAny(patient.getMedications().getInternalList(), Medication::getSearchKey);
+            case REMARK:
+                return matchesAny(patient.getRemarks().getInternalList(), Remark::getSearchKey);
+            case TASK:
+                return matchesAny(patient.getTasks().getInternalList(), Task::getSearchKey);
+            default:
+                throw new AssertionError("Unknown field: " + field);
+            }
+        }
+
+        private <T> boolean matchesAny(List<T> details, Function<T, String> searchKey) {
+            for (T detail : details) {
+                if (matcher.matches(searchKey.apply(detail))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Returns true if the details of a patient, as normalized by the index, satisfy this clause.
+         */
+        private boolean matches(String[][] details) {
+            for (Field field : fieldsByCost) {
+                for (String detail : details[field.ordinal()]) {
+                    if (matcher.matches(detail)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Clause // instanceof handles nulls
+                    && fields.equals(((Clause) other).fields)
+                    && keywords.equals(((Clause) other).keywords));
+        }
+
+        @Override
+        public int hashCode() {
+            return fields.hashCode() * 31 + keywords.hashCode();
+        }
+    }
+}
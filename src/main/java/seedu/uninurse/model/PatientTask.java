@@ -0,0 +1,49 @@
+package seedu.uninurse.model;
+
+import static seedu.uninurse.commons.util.CollectionUtil.requireAllNonNull;
+
+import seedu.uninurse.model.person.Patient;
+import seedu.uninurse.model.task.Task;
+
+/**
+ * An association class storing a Task and the Patient it belongs to.
+ */
+public class PatientTask {
+    private final Patient patient;
+    private final Task task;
+
+    /**
+     * Constructs a PatientTask with a Patient and one of its Tasks.
+     */
+    public PatientTask(Patient patient, Task task) {
+        requireAllNonNull(patient, task);
+        this.patient = patient;
+        this.task = task;
+    }
+
+    public Patient getPatient() {
+        return patient;
+    }
+
+    public Task getTask() {
+        return task;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PatientTask // instanceof handles nulls
+                && patient.equals(((PatientTask) other).patient)
+                && task.equals(((PatientTask) other).task));
+    }
+
+    @Override
+    public int hashCode() {
+        return task.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return patient.getName() + ": " + task;
+    }
+}
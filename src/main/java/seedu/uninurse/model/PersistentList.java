@@ -0,0 +1,334 @@
+package seedu.uninurse.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An immutable list which shares structure between its versions.
+ * The list is stored as a size-annotated balanced binary tree, so every update copies only the O(log n) nodes
+ * on the path to the changed slot and leaves the previous version intact.
+ *
+ * @param <T> the type of elements in the list.
+ */
+public final class PersistentList<T> implements Iterable<T> {
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+    private static final AtomicLong NODE_STAMPS = new AtomicLong();
+
+    private final Node<T> root;
+
+    private PersistentList(Node<T> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns an empty PersistentList.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentList<T> empty() {
+        return (PersistentList<T>) EMPTY;
+    }
+
+    /**
+     * Returns a PersistentList containing the given elements in order.
+     */
+    public static <T> PersistentList<T> of(List<? extends T> elements) {
+        requireNonNull(elements);
+        if (elements.isEmpty()) {
+            return empty();
+        }
+        return new PersistentList<>(build(new ArrayList<>(elements), 0, elements.size()));
+    }
+
+    public int size() {
+        return size(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns the element at the given index.
+     */
+    public T get(int index) {
+        checkIndex(index, size());
+        Node<T> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.value;
+            }
+        }
+    }
+
+    /**
+     * Returns a new version of this list with the element at the given index replaced.
+     */
+    public PersistentList<T> set(int index, T element) {
+        checkIndex(index, size());
+        return new PersistentList<>(set(root, index, element));
+    }
+
+    /**
+     * Returns a new version of this list with the element inserted at the given index.
+     */
+    public PersistentList<T> add(int index, T element) {
+        checkIndex(index, size() + 1);
+        return new PersistentList<>(add(root, index, element));
+    }
+
+    /**
+     * Returns a new version of this list with the element at the given index removed.
+     */
+    public PersistentList<T> remove(int index) {
+        checkIndex(index, size());
+        return new PersistentList<>(remove(root, index));
+    }
+
+    /**
+     * Returns the stamp of the most recently created node of any PersistentList.
+     * Every node is stamped with a larger value than the nodes created before it.
+     */
+    public static long currentStamp() {
+        return NODE_STAMPS.get();
+    }
+
+    /**
+     * Returns the number of nodes of this list that were created after the given stamp.
+     * A node is always created after its children, so the subtree of an older node is skipped, which makes
+     * this proportional to the number of newer nodes rather than to the size of the list.
+     */
+    public int countNodesCreatedAfter(long stamp) {
+        int count = 0;
+        Deque<Node<T>> pending = new ArrayDeque<>();
+        if (root != null) {
+            pending.push(root);
+        }
+        while (!pending.isEmpty()) {
+            Node<T> node = pending.pop();
+            if (node.stamp <= stamp) {
+                continue;
+            }
+            count++;
+            if (node.left != null) {
+                pending.push(node.left);
+            }
+            if (node.right != null) {
+                pending.push(node.right);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the elements of this list as a new {@code List}.
+     */
+    public List<T> toList() {
+        List<T> elements = new ArrayList<>(size());
+        collect(root, elements);
+        return elements;
+    }
+
+    /**
+     * Returns an unmodifiable {@code List} view of this list, without copying its elements.
+     */
+    public List<T> asList() {
+        return new AbstractList<T>() {
+            @Override
+            public T get(int index) {
+                return PersistentList.this.get(index);
+            }
+
+            @Override
+            public int size() {
+                return PersistentList.this.size();
+            }
+
+            @Override
+            public Iterator<T> iterator() {
+                return PersistentList.this.iterator();
+            }
+        };
+    }
+
+    /**
+     * Returns an iterator over the elements of this list in order, without copying them.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private final Deque<Node<T>> path = new ArrayDeque<>();
+            private Node<T> next = root;
+
+            @Override
+            public boolean hasNext() {
+                return next != null || !path.isEmpty();
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                while (next != null) {
+                    path.push(next);
+                    next = next.left;
+                }
+                Node<T> current = path.pop();
+                next = current.right;
+                return current.value;
+            }
+        };
+    }
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + bound);
+        }
+    }
+
+    private static <T> Node<T> build(List<T> elements, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        return new Node<>(elements.get(mid), build(elements, from, mid), build(elements, mid + 1, to));
+    }
+
+    private static <T> void collect(Node<T> node, List<T> elements) {
+        if (node == null) {
+            return;
+        }
+        collect(node.left, elements);
+        elements.add(node.value);
+        collect(node.right, elements);
+    }
+
+    private static <T> Node<T> set(Node<T> node, int index, T element) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return new Node<>(node.value, set(node.left, index, element), node.right);
+        } else if (index > leftSize) {
+            return new Node<>(node.value, node.left, set(node.right, index - leftSize - 1, element));
+        } else {
+            return new Node<>(element, node.left, node.right);
+        }
+    }
+
+    private static <T> Node<T> add(Node<T> node, int index, T element) {
+        if (node == null) {
+            return new Node<>(element, null, null);
+        }
+        int leftSize = size(node.left);
+        if (index <= leftSize) {
+            return balance(node.value, add(node.left, index, element), node.right);
+        } else {
+            return balance(node.value, node.left, add(node.right, index - leftSize - 1, element));
+        }
+    }
+
+    private static <T> Node<T> remove(Node<T> node, int index) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return balance(node.value, remove(node.left, index), node.right);
+        } else if (index > leftSize) {
+            return balance(node.value, node.left, remove(node.right, index - leftSize - 1));
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        } else {
+            return balance(first(node.right), node.left, remove(node.right, 0));
+        }
+    }
+
+    private static <T> T first(Node<T> node) {
+        while (node.left != null) {
+            node = node.left;
+        }
+        return node.value;
+    }
+
+    private static <T> Node<T> balance(T value, Node<T> left, Node<T> right) {
+        int difference = height(left) - height(right);
+        if (difference > 1) {
+            if (height(left.left) < height(left.right)) {
+                left = rotateLeft(left.value, left.left, left.right);
+            }
+            return rotateRight(value, left, right);
+        } else if (difference < -1) {
+            if (height(right.right) < height(right.left)) {
+                right = rotateRight(right.value, right.left, right.right);
+            }
+            return rotateLeft(value, left, right);
+        }
+        return new Node<>(value, left, right);
+    }
+
+    private static <T> Node<T> rotateRight(T value, Node<T> left, Node<T> right) {
+        return new Node<>(left.value, left.left, new Node<>(value, left.right, right));
+    }
+
+    private static <T> Node<T> rotateLeft(T value, Node<T> left, Node<T> right) {
+        return new Node<>(right.value, new Node<>(value, left, right.left), right.right);
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PersistentList // instanceof handles nulls
+                && toList().equals(((PersistentList<?>) other).toList()));
+    }
+
+    @Override
+    public int hashCode() {
+        return toList().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+
+    /**
+     * An immutable node of the tree.
+     */
+    private static final class Node<T> {
+        private final T value;
+        private final Node<T> left;
+        private final Node<T> right;
+        private final int size;
+        private final int height;
+        private final long stamp;
+
+        private Node(T value, Node<T> left, Node<T> right) {
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.size = size(left) + size(right) + 1;
+            this.height = Math.max(height(left), height(right)) + 1;
+            this.stamp = NODE_STAMPS.incrementAndGet();
+        }
+    }
+}
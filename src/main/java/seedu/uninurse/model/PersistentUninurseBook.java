@@ -1,30 +1,95 @@
 package seedu.uninurse.model;
 
+import static seedu.uninurse.commons.util.AppUtil.checkArgument;
+
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
+import javafx.collections.ListChangeListener.Change;
 import seedu.uninurse.commons.core.Config;
 import seedu.uninurse.logic.commands.CommandResult;
 import seedu.uninurse.logic.commands.CommandType;
+import seedu.uninurse.model.person.Patient;
+import seedu.uninurse.model.person.Person;
 
 /**
  * Versions of UninurseBookSnapshot after every command.
+ * Changes to the working copy are mirrored into persistent lists as they happen, so making a snapshot
+ * only stores the slots that changed since the previous snapshot and shares everything else with it.
+ * Undo and redo apply the PersonListTracker delta of the version to the working copy, so only the slots of
+ * the persons that the command added or deleted are touched. Rolling tasks over also replaces patients without
+ * a tracker, so a version that rolled tasks over is restored from its lists instead.
+ * The oldest versions are evicted once there are more versions than the undo limit allows, or once the memory
+ * the versions are estimated to retain exceeds the byte budget.
  */
 public class PersistentUninurseBook {
+    public static final String MESSAGE_INVALID_UNDO_LIMIT = "Undo limit should be a non-negative integer";
+    public static final String MESSAGE_INVALID_BYTE_BUDGET = "Undo byte budget should be a positive integer";
+
+    // Rough heap footprints used to estimate the memory retained by the versions
+    private static final long ESTIMATED_NODE_BYTES = 48;
+    private static final long ESTIMATED_PERSON_OVERHEAD_BYTES = 512;
+
     private final UninurseBook workingCopy;
-    private final List<UninurseBookSnapshot> uninurseBookVersions;
+    private final CircularVersionStore<UninurseBookSnapshot> uninurseBookVersions;
     private int currentVersion;
+    private final long byteBudget;
+    private long retainedBytes;
+    private long lastSnapshotStamp;
+
+    private PersistentList<Person> pendingPersons;
+    private PersistentList<Patient> pendingPatients;
+    private boolean isRestoring;
+    // Whether patients were rolled over since the working copy last matched a version
+    private boolean hasUntrackedChanges;
 
     /**
      * Creates an UninurseBookSnapshot using the Persons in the toBeCopied
      */
     public PersistentUninurseBook(ReadOnlyUninurseBook toBeCopied) {
+        this(toBeCopied, Config.DEFAULT_UNDO_LIMIT, Config.DEFAULT_UNDO_BYTE_BUDGET);
+    }
+
+    /**
+     * Creates an UninurseBookSnapshot using the Persons in the toBeCopied, which can be undone at most
+     * undoLimit times in a row while its versions are estimated to retain at most byteBudget bytes.
+     */
+    public PersistentUninurseBook(ReadOnlyUninurseBook toBeCopied, int undoLimit, long byteBudget) {
+        checkArgument(undoLimit >= 0, MESSAGE_INVALID_UNDO_LIMIT);
+        checkArgument(byteBudget > 0, MESSAGE_INVALID_BYTE_BUDGET);
         this.workingCopy = new UninurseBook(toBeCopied);
-        this.uninurseBookVersions = new ArrayList<UninurseBookSnapshot>();
-        this.uninurseBookVersions.add(new UninurseBookSnapshot(toBeCopied));
+        this.uninurseBookVersions = new CircularVersionStore<>(undoLimit + 1);
+        this.byteBudget = byteBudget;
+
+        PersistentList<Person> persons = PersistentList.of(workingCopy.getPersonList());
+        PersistentList<Patient> patients = PersistentList.of(workingCopy.getPatientList());
+        long initialBytes = (persons.size() + patients.size()) * ESTIMATED_NODE_BYTES
+                + estimateBytes(persons.toList());
+        this.uninurseBookVersions.add(new UninurseBookSnapshot(persons, patients,
+                new CommandResult("", CommandType.EMPTY), initialBytes, 0, false));
+        this.retainedBytes = initialBytes;
+        this.lastSnapshotStamp = PersistentList.currentStamp();
         this.currentVersion = 0;
-        handleChange();
+        this.pendingPersons = uninurseBookVersions.get(currentVersion).getPersons();
+        this.pendingPatients = uninurseBookVersions.get(currentVersion).getPatients();
+        this.isRestoring = false;
+
+        workingCopy.getPersonList().addListener((Change<? extends Person> change) -> {
+            if (!isRestoring) {
+                pendingPersons = applyChange(pendingPersons, change);
+            }
+        });
+        workingCopy.getPatientList().addListener((Change<? extends Patient> change) -> {
+            if (!isRestoring) {
+                pendingPatients = applyChange(pendingPatients, change);
+            }
+        });
     }
 
     /**
@@ -34,9 +99,37 @@ public class PersistentUninurseBook {
         return workingCopy;
     }
 
+    /**
+     * Returns an immutable snapshot of the working copy as it is now.
+     * Changes to the working copy are already mirrored into persistent lists, so this takes constant time.
+     */
+    public UninurseBookSnapshot getWorkingCopySnapshot() {
+        return new UninurseBookSnapshot(pendingPersons, pendingPatients, new CommandResult("", CommandType.EMPTY));
+    }
+
+    /**
+     * Rolls over the recurring tasks of the working copy that have passed.
+     *
+     * @return the updated copy of each patient that was replaced, keyed by the patient it replaced.
+     */
+    public Map<Patient, Patient> updatePersons() {
+        Map<Patient, Patient> replacements = workingCopy.updatePersons();
+        hasUntrackedChanges |= !replacements.isEmpty();
+        return replacements;
+    }
+
     private void handleChange() {
-        workingCopy.setPersons(uninurseBookVersions.get(currentVersion).getPersonList());
-        workingCopy.setPatients(uninurseBookVersions.get(currentVersion).getPatientList());
+        UninurseBookSnapshot version = uninurseBookVersions.get(currentVersion);
+        isRestoring = true;
+        try {
+            workingCopy.setPatients(version.getPatientList());
+            workingCopy.setPersons(version.getPersonList());
+        } finally {
+            isRestoring = false;
+        }
+        pendingPersons = version.getPersons();
+        pendingPatients = version.getPatients();
+        hasUntrackedChanges = false;
     }
 
     /**
@@ -59,9 +152,16 @@ public class PersistentUninurseBook {
     public CommandResult undo() {
         CommandResult commandResult = new CommandResult("", CommandType.EMPTY);
         if (canUndo()) {
-            commandResult = uninurseBookVersions.get(currentVersion).getCommandResult();
+            UninurseBookSnapshot undoneVersion = uninurseBookVersions.get(currentVersion);
+            commandResult = undoneVersion.getCommandResult();
             currentVersion--;
-            handleChange();
+            Optional<PersonListTracker> personListTracker = undoneVersion.getPersonListTracker();
+            if (personListTracker.isPresent() && !hasUntrackedChanges && !undoneVersion.hasUntrackedChanges()) {
+                applyDelta(personListTracker.get().getAddedPersons().orElse(List.of()),
+                        personListTracker.get().getDeletedPersons().orElse(List.of()));
+            } else {
+                handleChange();
+            }
         }
         return commandResult;
     }
@@ -73,25 +173,159 @@ public class PersistentUninurseBook {
         CommandResult commandResult = new CommandResult("", CommandType.EMPTY);
         if (canRedo()) {
             currentVersion++;
-            commandResult = uninurseBookVersions.get(currentVersion).getCommandResult();
-            handleChange();
+            UninurseBookSnapshot redoneVersion = uninurseBookVersions.get(currentVersion);
+            commandResult = redoneVersion.getCommandResult();
+            Optional<PersonListTracker> personListTracker = redoneVersion.getPersonListTracker();
+            if (personListTracker.isPresent() && !hasUntrackedChanges && !redoneVersion.hasUntrackedChanges()) {
+                applyDelta(personListTracker.get().getDeletedPersons().orElse(List.of()),
+                        personListTracker.get().getAddedPersons().orElse(List.of()));
+            } else {
+                handleChange();
+            }
         }
         return commandResult;
     }
 
+    /**
+     * Moves the working copy to the current version by removing toRemove from it and inserting toAdd at the
+     * positions they have in the current version. Both take a single pass over the lists, with the persons looked
+     * up by reference.
+     * A single removed and added person is an edit, which is replaced in place.
+     */
+    private void applyDelta(List<Person> toRemove, List<Person> toAdd) {
+        UninurseBookSnapshot version = uninurseBookVersions.get(currentVersion);
+        isRestoring = true;
+        try {
+            if (toRemove.size() == 1 && toAdd.size() == 1) {
+                replace(toRemove.get(0), toAdd.get(0));
+            } else {
+                workingCopy.removePersons(toRemove);
+                insertAll(toAdd, version);
+            }
+        } finally {
+            isRestoring = false;
+        }
+        pendingPersons = version.getPersons();
+        pendingPatients = version.getPatients();
+        hasUntrackedChanges = false;
+    }
+
+    private void replace(Person target, Person replacement) {
+        if (target instanceof Patient && replacement instanceof Patient) {
+            workingCopy.setPatient((Patient) target, (Patient) replacement);
+        } else {
+            workingCopy.setPerson(target, replacement);
+        }
+    }
+
+    /**
+     * Inserts persons into the working copy at the positions they have in the given version.
+     * Persons are inserted in ascending order of position, so every person before them is already in place.
+     */
+    private void insertAll(List<Person> persons, UninurseBookSnapshot version) {
+        if (persons.isEmpty()) {
+            return;
+        }
+
+        Map<Person, Integer> personIndexes = indexesOf(persons, version.getPersons());
+        Map<Person, Integer> patientIndexes = indexesOf(persons, version.getPatients());
+        List<Person> sortedPersons = new ArrayList<>(persons);
+        sortedPersons.sort(Comparator.comparing(personIndexes::get));
+
+        for (Person person : sortedPersons) {
+            assert personIndexes.containsKey(person);
+            if (patientIndexes.containsKey(person)) {
+                workingCopy.addPatient(personIndexes.get(person), patientIndexes.get(person), (Patient) person);
+            } else {
+                workingCopy.addPerson(personIndexes.get(person), person);
+            }
+        }
+    }
+
+    /**
+     * Returns the positions of the given persons in the given list, found in a single pass over the list.
+     * Persons are matched by reference since the tracker holds the same instances that are stored in the versions.
+     */
+    private static Map<Person, Integer> indexesOf(List<Person> persons, PersistentList<? extends Person> list) {
+        Set<Person> remainingPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+        remainingPersons.addAll(persons);
+        Map<Person, Integer> indexes = new IdentityHashMap<>();
+        int index = 0;
+        for (Person person : list) {
+            if (remainingPersons.isEmpty()) {
+                break;
+            }
+            if (remainingPersons.remove(person)) {
+                indexes.put(person, index);
+            }
+            index++;
+        }
+        return indexes;
+    }
+
     /**
      * Makes a snapshot of the current UninurseBook.
+     * Versions after the current one are discarded, and the oldest versions are evicted once the undo limit or
+     * the byte budget is reached. The current version is always kept.
      */
     public void makeSnapshot(CommandResult commandResult) {
-        while (uninurseBookVersions.size() > currentVersion + 1) {
-            uninurseBookVersions.remove(uninurseBookVersions.size() - 1);
+        for (int i = currentVersion + 1; i < uninurseBookVersions.size(); i++) {
+            retainedBytes -= uninurseBookVersions.get(i).getCreatedBytes();
         }
-        while (uninurseBookVersions.size() > Config.UNDO_LIMIT) {
-            uninurseBookVersions.remove(0);
+        uninurseBookVersions.truncate(currentVersion + 1);
+
+        long nodeBytes = (pendingPersons.countNodesCreatedAfter(lastSnapshotStamp)
+                + pendingPatients.countNodesCreatedAfter(lastSnapshotStamp)) * ESTIMATED_NODE_BYTES;
+        Optional<PersonListTracker> personListTracker = commandResult.getPersonListTracker();
+        long createdBytes = nodeBytes + personListTracker.flatMap(PersonListTracker::getAddedPersons)
+                .map(PersistentUninurseBook::estimateBytes).orElse(0L);
+        long releasedBytes = nodeBytes + personListTracker.flatMap(PersonListTracker::getDeletedPersons)
+                .map(PersistentUninurseBook::estimateBytes).orElse(0L);
+        UninurseBookSnapshot snapshot = new UninurseBookSnapshot(pendingPersons, pendingPatients, commandResult,
+                createdBytes, releasedBytes, hasUntrackedChanges);
+        hasUntrackedChanges = false;
+
+        if (uninurseBookVersions.isFull()) {
+            uninurseBookVersions.removeOldest();
+            UninurseBookSnapshot oldest = uninurseBookVersions.isEmpty() ? snapshot : uninurseBookVersions.get(0);
+            retainedBytes -= oldest.getReleasedBytes();
+        }
+        uninurseBookVersions.add(snapshot);
+        retainedBytes += createdBytes;
+
+        while (retainedBytes > byteBudget && uninurseBookVersions.size() > 1) {
+            uninurseBookVersions.removeOldest();
+            retainedBytes -= uninurseBookVersions.get(0).getReleasedBytes();
         }
-        uninurseBookVersions.add(new UninurseBookSnapshot(workingCopy, commandResult));
         currentVersion = uninurseBookVersions.size() - 1;
-        handleChange();
+        lastSnapshotStamp = PersistentList.currentStamp();
+    }
+
+    /**
+     * Returns the number of versions that can be undone and redone, and the memory they are estimated to retain.
+     */
+    public UndoHistoryStats getUndoHistoryStats() {
+        return new UndoHistoryStats(currentVersion, uninurseBookVersions.size() - currentVersion - 1,
+                retainedBytes, byteBudget);
+    }
+
+    /**
+     * Returns the estimated number of bytes retained by the given persons.
+     * The length of a person's string representation grows with every field, tag and task it holds.
+     */
+    private static long estimateBytes(List<? extends Person> persons) {
+        long bytes = 0;
+        for (Person person : persons) {
+            bytes += ESTIMATED_PERSON_OVERHEAD_BYTES + 2L * person.toString().length();
+        }
+        return bytes;
+    }
+
+    /**
+     * Returns the PersonListTracker of the command that made the current version, if it has one.
+     */
+    public Optional<PersonListTracker> findCurrentPersonListTracker() {
+        return uninurseBookVersions.get(currentVersion).getPersonListTracker();
     }
 
     public PersonListTracker getCurrentPersonListTracker() {
@@ -100,6 +334,43 @@ public class PersistentUninurseBook {
         return ret.get();
     }
 
+    /**
+     * Returns the given persistent list with the given list change applied to it.
+     */
+    private static <T> PersistentList<T> applyChange(PersistentList<T> list, Change<? extends T> change) {
+        PersistentList<T> updatedList = list;
+        while (change.next()) {
+            int from = change.getFrom();
+            if (change.wasPermutated()) {
+                for (int i = from; i < change.getTo(); i++) {
+                    updatedList = updatedList.set(i, change.getList().get(i));
+                }
+                continue;
+            }
+
+            if (change.wasRemoved()) {
+                if (change.getRemovedSize() == updatedList.size()) {
+                    updatedList = PersistentList.empty();
+                } else {
+                    for (int i = 0; i < change.getRemovedSize(); i++) {
+                        updatedList = updatedList.remove(from);
+                    }
+                }
+            }
+
+            if (change.wasAdded()) {
+                if (updatedList.isEmpty()) {
+                    updatedList = PersistentList.of(change.getAddedSubList());
+                } else {
+                    for (int i = from; i < change.getTo(); i++) {
+                        updatedList = updatedList.add(i, change.getList().get(i));
+                    }
+                }
+            }
+        }
+        return updatedList;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
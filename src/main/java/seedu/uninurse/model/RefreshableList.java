@@ -0,0 +1,95 @@
+package seedu.uninurse.model;
+
+import static seedu.uninurse.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * A view of an observable list that passes its changes on, and can also report chosen items as updated.
+ * A {@code FilteredList} over this view re-tests only the items reported as updated, and keeps the results of
+ * the other items, so items can be re-filtered without resetting the predicate, which would test every item again.
+ */
+public class RefreshableList<E> extends TransformationList<E, E> {
+
+    /**
+     * Creates a {@code RefreshableList} over the given source list.
+     */
+    public RefreshableList(ObservableList<? extends E> source) {
+        super(source);
+    }
+
+    /**
+     * Reports the given items as updated to the listeners of this list, in a single change.
+     * Items are compared by reference, and items that are not in the list are ignored.
+     */
+    public void refresh(Collection<? extends E> items) {
+        requireAllNonNull(items);
+        if (items.isEmpty()) {
+            return;
+        }
+
+        Set<E> itemsToRefresh = Collections.newSetFromMap(new IdentityHashMap<>());
+        itemsToRefresh.addAll(items);
+        beginChange();
+        for (int i = 0; i < size(); i++) {
+            if (itemsToRefresh.contains(get(i))) {
+                nextUpdate(i);
+            }
+        }
+        endChange();
+    }
+
+    @Override
+    protected void sourceChanged(Change<? extends E> change) {
+        beginChange();
+        while (change.next()) {
+            int from = change.getFrom();
+            int to = change.getTo();
+            if (change.wasPermutated()) {
+                int[] permutation = new int[to - from];
+                for (int i = from; i < to; i++) {
+                    permutation[i - from] = change.getPermutation(i);
+                }
+                nextPermutation(from, to, permutation);
+            } else if (change.wasUpdated()) {
+                for (int i = from; i < to; i++) {
+                    nextUpdate(i);
+                }
+            } else if (change.wasReplaced()) {
+                nextReplace(from, to, change.getRemoved());
+            } else if (change.wasRemoved()) {
+                nextRemove(from, change.getRemoved());
+            } else if (change.wasAdded()) {
+                nextAdd(from, to);
+            }
+        }
+        endChange();
+    }
+
+    @Override
+    public E get(int index) {
+        return getSource().get(index);
+    }
+
+    @Override
+    public int size() {
+        return getSource().size();
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        return index;
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        return index;
+    }
+}
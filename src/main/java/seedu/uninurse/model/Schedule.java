@@ -1,7 +1,6 @@
 package seedu.uninurse.model;
 
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 
 import javafx.collections.FXCollections;
@@ -19,41 +18,26 @@ public class Schedule {
 
     /**
      * Constructs a Schedule that has a list of PatientTaskListPair on the given day of interest.
+     * Consecutive tasks of the same patient are grouped into one PatientTaskListPair.
      *
-     * @param patients the list of patients.
+     * @param tasksOnDay the tasks on the day with their patients, in order of date and time.
      * @param dayOfInterest the day of the schedule.
      */
-    public Schedule(List<Patient> patients, DateTime dayOfInterest) {
+    public Schedule(List<PatientTask> tasksOnDay, DateTime dayOfInterest) {
         this.patientTaskListPairList = new ArrayList<>();
         this.dateTime = dayOfInterest;
 
-        List<PatientTaskPair> patientTaskPairList = new ArrayList<>();
-
-        patients.forEach(p -> p.getTasks().getAllTasksOnDay(dayOfInterest)
-                    .forEach(t -> patientTaskPairList.add(new PatientTaskPair(p, t))));
-
-        patientTaskPairList.sort(new Comparator<PatientTaskPair>() {
-            @Override
-            public int compare(PatientTaskPair firstPair, PatientTaskPair secondPair) {
-                if (firstPair.task.getDateTime().isBefore(secondPair.task.getDateTime())) {
-                    return -1;
-                } else {
-                    return 1;
-                }
-            }
-        });
-
-        if (!patientTaskPairList.isEmpty()) {
-            Patient currentPatient = patientTaskPairList.get(0).patient;
+        if (!tasksOnDay.isEmpty()) {
+            Patient currentPatient = tasksOnDay.get(0).getPatient();
             List<Task> currentTaskList = new ArrayList<>();
-            for (PatientTaskPair pair : patientTaskPairList) {
-                if (pair.patient.equals(currentPatient)) {
-                    currentTaskList.add(pair.task);
+            for (PatientTask patientTask : tasksOnDay) {
+                if (patientTask.getPatient().equals(currentPatient)) {
+                    currentTaskList.add(patientTask.getTask());
                 } else {
                     this.patientTaskListPairList.add(new PatientTaskListPair(currentPatient, currentTaskList));
                     currentTaskList = new ArrayList<>();
-                    currentTaskList.add(pair.task);
-                    currentPatient = pair.patient;
+                    currentTaskList.add(patientTask.getTask());
+                    currentPatient = patientTask.getPatient();
                 }
             }
             this.patientTaskListPairList.add(new PatientTaskListPair(currentPatient, currentTaskList));
@@ -72,19 +56,6 @@ public class Schedule {
         return FXCollections.observableList(patientTaskListPairList);
     }
 
-    /**
-     * Constructs a PatientTaskPair the stores information about a Patient and a Task.
-     */
-    private class PatientTaskPair {
-        private final Patient patient;
-        private final Task task;
-
-        private PatientTaskPair(Patient patient, Task task) {
-            this.patient = patient;
-            this.task = task;
-        }
-    }
-
     /**
      * Constructs a PatientTaskListPair the stores information about a Patient
      * and a list of Tasks.
@@ -0,0 +1,392 @@
+package seedu.uninurse.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.uninurse.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import javafx.collections.ListChangeListener.Change;
+import seedu.uninurse.model.person.Patient;
+import seedu.uninurse.model.task.DateTime;
+import seedu.uninurse.model.task.RecurringTask;
+import seedu.uninurse.model.task.Task;
+
+/**
+ * An index of the tasks of a list of patients by the day they are due on.
+ * The tasks of each day are kept in order of their date and time, so the tasks on a day are found in
+ * O(log d + k) for d days with tasks and k tasks on that day, instead of scanning the tasks of every patient.
+ * Recurring tasks occur on an unbounded number of days, so they are kept aside as rules and indexed by their
+ * next occurrence on or after the latest day that was queried. Querying a later day only moves the rules whose
+ * next occurrence was before it, each to its first occurrence from that day, so only the rules that occur on the
+ * queried day are expanded. When days are queried in increasing order, as they are over time, every rule is moved
+ * once per occurrence. Querying an earlier day indexes every rule again from that day.
+ * The index is kept in sync by applying the changes of the patient list to it.
+ * The calendar also keeps a priority queue of the patients by the earliest date and time any of their
+ * recurring tasks is due, so only the patients with recurring tasks that have passed are rolled over.
+ * The tasks and patients of the most recently queried days are cached, so showing the same day again, such as the
+ * patients for today, does not expand the recurring tasks again. A changed patient only drops the cached days that
+ * its old or new tasks are due on, including the days its recurring tasks occur on.
+ * The cache is keyed by date, so it moves on to the next day by itself at midnight.
+ * The calendar is not thread-safe, and reading it changes it too, since a query may index recurring tasks and fills
+ * and reorders the cache, including the queries of a stream from {@link #getTasksBetween}. It must only be used from
+ * one thread, the UI thread in the app. The first thread to query it owns it from then on, which is checked by
+ * assertions, so the patients can still be loaded into it on another thread before that.
+ */
+public class TaskCalendar {
+    private static final int MAX_CACHED_DAYS = 7;
+
+    private final NavigableMap<LocalDate, List<PatientTask>> tasksByDay = new TreeMap<>();
+    private final NavigableMap<LocalDate, Set<RecurringEntry>> recurringEntriesByNextDay = new TreeMap<>();
+    // Patients are matched by reference, which is cheaper than comparing all their details
+    private final Map<Patient, List<Task>> indexedTasks = new IdentityHashMap<>();
+    private final Map<Patient, List<RecurringEntry>> recurringEntries = new IdentityHashMap<>();
+    private final PriorityQueue<DueEntry> dueEntries = new PriorityQueue<>();
+    // The entry of each patient that is still valid, since entries are only dropped from the queue once polled
+    private final Map<Patient, DueEntry> validDueEntries = new IdentityHashMap<>();
+    private final Map<LocalDate, DaySchedule> cachedDays = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<LocalDate, DaySchedule> eldest) {
+            return size() > MAX_CACHED_DAYS;
+        }
+    };
+
+    // The recurring entries are indexed by their first occurrence on or after this day
+    private LocalDate recurringIndexDay = LocalDate.MIN;
+    // The thread that first queried this calendar, the only one that may use it from then on
+    private Thread owner;
+
+    /**
+     * Applies the given change of the patient list to this calendar.
+     */
+    public void applyChange(Change<? extends Patient> change) {
+        assert owner == null || isQueriedByOwner();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                continue;
+            }
+            if (change.wasRemoved()) {
+                change.getRemoved().forEach(this::removePatient);
+            }
+            if (change.wasAdded()) {
+                change.getAddedSubList().forEach(this::addPatient);
+            }
+        }
+    }
+
+    /**
+     * Returns the earliest date and time a recurring task of any patient is due, if there is any.
+     */
+    public Optional<DateTime> getNextDueDateTime() {
+        assert isQueriedByOwner();
+        while (!dueEntries.isEmpty() && validDueEntries.get(dueEntries.peek().patient) != dueEntries.peek()) {
+            dueEntries.poll();
+        }
+        return Optional.ofNullable(dueEntries.peek()).map(entry -> entry.dateTime);
+    }
+
+    /**
+     * Returns the patients with a recurring task whose date and time has passed, and forgets when they are due.
+     * The patients are due again at their next occurrence once they are replaced by their rolled over copies.
+     * A patient whose tasks did not change when they were rolled over is not due again until its tasks change,
+     * since rolling them over again would not change them either.
+     */
+    public List<Patient> takePatientsDue() {
+        assert isQueriedByOwner();
+        List<Patient> patientsDue = new ArrayList<>();
+        while (!dueEntries.isEmpty() && dueEntries.peek().dateTime.isPastDate()) {
+            DueEntry entry = dueEntries.poll();
+            if (validDueEntries.get(entry.patient) == entry) {
+                validDueEntries.remove(entry.patient);
+                patientsDue.add(entry.patient);
+            }
+        }
+        return patientsDue;
+    }
+
+    /**
+     * Returns the tasks due on the given day with the patients they belong to, in order of date and time.
+     */
+    public List<PatientTask> getTasksOnDay(DateTime day) {
+        requireNonNull(day);
+        assert isQueriedByOwner();
+        return getDaySchedule(day.toLocalDate()).tasks;
+    }
+
+    /**
+     * Returns the patients with any task due on the given day. Patients are compared by reference.
+     */
+    public Set<Patient> getPatientsOnDay(DateTime day) {
+        requireNonNull(day);
+        assert isQueriedByOwner();
+        return getDaySchedule(day.toLocalDate()).patients;
+    }
+
+    /**
+     * Returns the tasks due from the given date and time up to and including the other, with the patients they
+     * belong to, in order of date and time.
+     * The tasks are found one day at a time as the stream is consumed, so reading only the first few tasks of a
+     * long range does not expand the rest of it. The stream must be consumed before the patient list changes.
+     */
+    public Stream<PatientTask> getTasksBetween(DateTime from, DateTime to) {
+        requireAllNonNull(from, to);
+        assert isQueriedByOwner();
+        if (to.isBefore(from)) {
+            return Stream.empty();
+        }
+
+        LocalDate toDay = to.toLocalDate();
+        // Only the days that have tasks are visited, and the next of them is only found once it is needed
+        return Stream.iterate(getNextDayWithTasks(from.toLocalDate()),
+                day -> day != null && !day.isAfter(toDay), day -> getNextDayWithTasks(day.plusDays(1)))
+                .flatMap(day -> {
+                    // The stream is consumed lazily, so it may be read on another thread than the one that made it
+                    assert isQueriedByOwner();
+                    DaySchedule daySchedule = cachedDays.get(day);
+                    return (daySchedule != null ? daySchedule.tasks : computeTasksOnDay(day)).stream();
+                }).filter(patientTask -> {
+                    DateTime dateTime = patientTask.getTask().getDateTime();
+                    return !dateTime.isBefore(from) && !to.isBefore(dateTime);
+                });
+    }
+
+    /**
+     * Returns the first day on or after the given day that has any task, or null if there is none.
+     */
+    private LocalDate getNextDayWithTasks(LocalDate day) {
+        indexRecurringEntriesFrom(day);
+        LocalDate nextDay = tasksByDay.ceilingKey(day);
+        LocalDate nextRecurringDay = recurringEntriesByNextDay.ceilingKey(day);
+        if (nextDay == null || (nextRecurringDay != null && nextRecurringDay.isBefore(nextDay))) {
+            return nextRecurringDay;
+        }
+        return nextDay;
+    }
+
+    /**
+     * Returns whether the calling thread owns this calendar, making it the owner if the calendar has none yet.
+     */
+    private boolean isQueriedByOwner() {
+        if (owner == null) {
+            owner = Thread.currentThread();
+        }
+        return owner == Thread.currentThread();
+    }
+
+    private DaySchedule getDaySchedule(LocalDate date) {
+        DaySchedule daySchedule = cachedDays.get(date);
+        if (daySchedule == null) {
+            daySchedule = new DaySchedule(computeTasksOnDay(date));
+            cachedDays.put(date, daySchedule);
+        }
+        return daySchedule;
+    }
+
+    private List<PatientTask> computeTasksOnDay(LocalDate date) {
+        List<PatientTask> tasksOnDay = new ArrayList<>(tasksByDay.getOrDefault(date, List.of()));
+        indexRecurringEntriesFrom(date);
+        for (RecurringEntry entry : recurringEntriesByNextDay.getOrDefault(date, Set.of())) {
+            for (Task occurrence : entry.task.getOccurrencesBetween(date, date)) {
+                tasksOnDay.add(indexAfter(tasksOnDay, occurrence.getDateTime()),
+                        new PatientTask(entry.patient, occurrence));
+            }
+        }
+        return tasksOnDay;
+    }
+
+    /**
+     * Indexes the recurring entries by their first occurrence on or after the given day.
+     */
+    private void indexRecurringEntriesFrom(LocalDate day) {
+        if (day.isBefore(recurringIndexDay)) {
+            recurringIndexDay = day;
+            recurringEntriesByNextDay.clear();
+            recurringEntries.values().forEach(entries -> entries.forEach(this::indexRecurringEntry));
+            return;
+        }
+
+        recurringIndexDay = day;
+        while (!recurringEntriesByNextDay.isEmpty() && recurringEntriesByNextDay.firstKey().isBefore(day)) {
+            recurringEntriesByNextDay.pollFirstEntry().getValue().forEach(this::indexRecurringEntry);
+        }
+    }
+
+    /**
+     * Indexes the recurring entry by its first occurrence on or after the day the entries are indexed from.
+     * An entry without any occurrence from that day on is left out of the index.
+     */
+    private void indexRecurringEntry(RecurringEntry entry) {
+        entry.nextDay = entry.task.getFirstOccurrenceFrom(recurringIndexDay).map(DateTime::toLocalDate).orElse(null);
+        if (entry.nextDay != null) {
+            // Kept in insertion order, so tasks due at the same time are listed in a stable order
+            recurringEntriesByNextDay.computeIfAbsent(entry.nextDay, nextDay -> new LinkedHashSet<>()).add(entry);
+        }
+    }
+
+    private void addPatient(Patient patient) {
+        List<Task> tasks = new ArrayList<>(patient.getTasks().getInternalList());
+        invalidateCachedDays(tasks);
+        indexedTasks.put(patient, tasks);
+        scheduleDueEntry(patient, tasks);
+        List<RecurringEntry> entries = new ArrayList<>();
+        for (Task task : tasks) {
+            if (task instanceof RecurringTask) {
+                RecurringEntry entry = new RecurringEntry(patient, (RecurringTask) task);
+                entries.add(entry);
+                indexRecurringEntry(entry);
+                continue;
+            }
+            List<PatientTask> dayTasks = tasksByDay.computeIfAbsent(task.getDateTime().toLocalDate(),
+                    day -> new ArrayList<>());
+            dayTasks.add(indexAfter(dayTasks, task.getDateTime()), new PatientTask(patient, task));
+        }
+        if (!entries.isEmpty()) {
+            recurringEntries.put(patient, entries);
+        }
+    }
+
+    private void removePatient(Patient patient) {
+        List<Task> tasks = indexedTasks.remove(patient);
+        if (tasks == null) {
+            return;
+        }
+        invalidateCachedDays(tasks);
+        validDueEntries.remove(patient);
+        for (Task task : tasks) {
+            if (!(task instanceof RecurringTask)) {
+                removeTasksOfPatient(tasksByDay, task.getDateTime().toLocalDate(), patient);
+            }
+        }
+        for (RecurringEntry entry : recurringEntries.getOrDefault(patient, List.of())) {
+            if (entry.nextDay == null) {
+                continue; // Not indexed, since it has no more occurrences
+            }
+            Set<RecurringEntry> dayEntries = recurringEntriesByNextDay.get(entry.nextDay);
+            dayEntries.remove(entry);
+            if (dayEntries.isEmpty()) {
+                recurringEntriesByNextDay.remove(entry.nextDay);
+            }
+        }
+        recurringEntries.remove(patient);
+    }
+
+    /**
+     * Drops the cached days that any of the given tasks is due on.
+     */
+    private void invalidateCachedDays(List<Task> tasks) {
+        if (cachedDays.isEmpty() || tasks.isEmpty()) {
+            return;
+        }
+        cachedDays.keySet().removeIf(day -> tasks.stream().anyMatch(task -> isDueOn(task, day)));
+    }
+
+    private static boolean isDueOn(Task task, LocalDate day) {
+        if (task instanceof RecurringTask) {
+            return ((RecurringTask) task).getFirstOccurrenceFrom(day)
+                    .map(occurrence -> occurrence.toLocalDate().equals(day))
+                    .orElse(false);
+        }
+        return task.getDateTime().toLocalDate().equals(day);
+    }
+
+    private static void removeTasksOfPatient(Map<LocalDate, List<PatientTask>> tasksByDay, LocalDate day,
+            Patient patient) {
+        List<PatientTask> dayTasks = tasksByDay.get(day);
+        if (dayTasks == null) {
+            return; // Already removed together with an earlier task on the same day
+        }
+        dayTasks.removeIf(patientTask -> patientTask.getPatient() == patient);
+        if (dayTasks.isEmpty()) {
+            tasksByDay.remove(day);
+        }
+    }
+
+    private void scheduleDueEntry(Patient patient, List<Task> tasks) {
+        tasks.stream()
+                .filter(task -> task instanceof RecurringTask)
+                .map(Task::getDateTime)
+                .min(DateTime::compareTo)
+                .ifPresent(dateTime -> {
+                    DueEntry entry = new DueEntry(patient, dateTime);
+                    validDueEntries.put(patient, entry);
+                    dueEntries.add(entry);
+                });
+    }
+
+    /**
+     * Returns the index after every task in dayTasks that is due at or before dateTime, so tasks due at the
+     * same time stay in the order they were added.
+     */
+    private static int indexAfter(List<PatientTask> dayTasks, DateTime dateTime) {
+        int low = 0;
+        int high = dayTasks.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (dateTime.isBefore(dayTasks.get(mid).getTask().getDateTime())) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * The tasks due on a day and the patients they belong to.
+     */
+    private static class DaySchedule {
+        private final List<PatientTask> tasks;
+        private final Set<Patient> patients;
+
+        private DaySchedule(List<PatientTask> tasks) {
+            this.tasks = Collections.unmodifiableList(tasks);
+            Set<Patient> patients = Collections.newSetFromMap(new IdentityHashMap<>());
+            tasks.forEach(patientTask -> patients.add(patientTask.getPatient()));
+            this.patients = Collections.unmodifiableSet(patients);
+        }
+    }
+
+    /**
+     * A recurring task of a patient, with the day it is indexed by.
+     */
+    private static class RecurringEntry {
+        private final Patient patient;
+        private final RecurringTask task;
+        private LocalDate nextDay;
+
+        private RecurringEntry(Patient patient, RecurringTask task) {
+            this.patient = patient;
+            this.task = task;
+        }
+    }
+
+    /**
+     * The earliest date and time any recurring task of a patient is due.
+     */
+    private static class DueEntry implements Comparable<DueEntry> {
+        private final Patient patient;
+        private final DateTime dateTime;
+
+        private DueEntry(Patient patient, DateTime dateTime) {
+            this.patient = patient;
+            this.dateTime = dateTime;
+        }
+
+        @Override
+        public int compareTo(DueEntry other) {
+            return dateTime.compareTo(other.dateTime);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.uninurse.model;
+
+import java.util.Objects;
+
+/**
+ * Immutable summary of the undo history of a PersistentUninurseBook.
+ */
+public class UndoHistoryStats {
+    private final int undoableVersions;
+    private final int redoableVersions;
+    private final long estimatedBytes;
+    private final long byteBudget;
+
+    /**
+     * Creates an UndoHistoryStats with the given number of versions and estimated memory usage.
+     */
+    public UndoHistoryStats(int undoableVersions, int redoableVersions, long estimatedBytes, long byteBudget) {
+        this.undoableVersions = undoableVersions;
+        this.redoableVersions = redoableVersions;
+        this.estimatedBytes = estimatedBytes;
+        this.byteBudget = byteBudget;
+    }
+
+    /**
+     * Returns the number of commands that can currently be undone.
+     */
+    public int getUndoableVersions() {
+        return undoableVersions;
+    }
+
+    /**
+     * Returns the number of commands that can currently be redone.
+     */
+    public int getRedoableVersions() {
+        return redoableVersions;
+    }
+
+    /**
+     * Returns the estimated number of bytes retained by all versions in the history.
+     */
+    public long getEstimatedBytes() {
+        return estimatedBytes;
+    }
+
+    /**
+     * Returns the number of bytes the history may retain before its oldest versions are evicted.
+     */
+    public long getByteBudget() {
+        return byteBudget;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof UndoHistoryStats)) {
+            return false;
+        }
+
+        UndoHistoryStats o = (UndoHistoryStats) other;
+        return undoableVersions == o.undoableVersions
+                && redoableVersions == o.redoableVersions
+                && estimatedBytes == o.estimatedBytes
+                && byteBudget == o.byteBudget;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(undoableVersions, redoableVersions, estimatedBytes, byteBudget);
+    }
+
+    @Override
+    public String toString() {
+        return "Undoable versions : " + undoableVersions
+                + "\nRedoable versions : " + redoableVersions
+                + "\nEstimated bytes : " + estimatedBytes + " / " + byteBudget;
+    }
+}
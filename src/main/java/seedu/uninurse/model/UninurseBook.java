@@ -2,13 +2,21 @@ package seedu.uninurse.model;
 
 import static seedu.uninurse.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import javafx.collections.ObservableList;
 import seedu.uninurse.model.exceptions.PatientNotFoundException;
 import seedu.uninurse.model.person.Patient;
 import seedu.uninurse.model.person.Person;
 import seedu.uninurse.model.person.UniquePersonList;
+import seedu.uninurse.model.person.exceptions.DuplicatePersonException;
+import seedu.uninurse.model.task.DateTime;
 
 /**
  * Wraps all data at the address-book level
@@ -62,12 +70,25 @@ public class UninurseBook implements ReadOnlyUninurseBook {
     public void resetData(ReadOnlyUninurseBook newData) {
         requireAllNonNull(newData);
 
-        setPersons(newData.getPersonList());
+        // The patients are replaced first, so that a filter of the persons finds their patients, but the persons are
+        // checked before, so that duplicate persons leave both lists as they were
+        List<Person> newPersons = newData.getPersonList();
+        if (!UniquePersonList.personsAreUnique(newPersons)) {
+            throw new DuplicatePersonException();
+        }
         setPatients(newData.getPatientList());
+        setPersons(newPersons);
     }
 
-    public void updatePersons() {
-        persons.updatePersons();
+    public Map<Patient, Patient> updatePersons() {
+        return persons.updatePersons();
+    }
+
+    /**
+     * Returns the earliest date and time a recurring task has to be rolled over by {@link #updatePersons()}.
+     */
+    public Optional<DateTime> getNextRolloverDateTime() {
+        return persons.getNextRolloverDateTime();
     }
 
     //// person-level operations
@@ -88,6 +109,14 @@ public class UninurseBook implements ReadOnlyUninurseBook {
         persons.addPerson(person);
     }
 
+    /**
+     * Inserts a person at the given position of the uninurse book.
+     * The person must not already exist in the uninurse book.
+     */
+    public void addPerson(int index, Person person) {
+        persons.addPerson(index, person);
+    }
+
     /**
      * Replaces the given person in the list with editedPerson.
      * person must exist in the uninurse book.
@@ -107,6 +136,14 @@ public class UninurseBook implements ReadOnlyUninurseBook {
         persons.addPatient(patient);
     }
 
+    /**
+     * Inserts a patient at the given positions of the person list and the patient list.
+     * The patient must not already exist in the uninurse book.
+     */
+    public void addPatient(int personIndex, int patientIndex, Patient patient) {
+        persons.addPatient(personIndex, patientIndex, patient);
+    }
+
     /**
      * Replaces the given patient in the list with editedPatient.
      * patient must exist in the uninurse book.
@@ -118,6 +155,17 @@ public class UninurseBook implements ReadOnlyUninurseBook {
         persons.setPatient(patient, editedPatient);
     }
 
+    /**
+     * Replaces each patient in patients with the editedPatient at the same position in editedPatients.
+     * Every patient must exist in the uninurse book.
+     * The patient identity of an editedPatient must not be the same as another existing patient in the book.
+     */
+    public void setPatients(List<Patient> patients, List<Patient> editedPatients) {
+        requireAllNonNull(patients, editedPatients);
+
+        persons.setPatients(patients, editedPatients);
+    }
+
     /**
      * Removes person from the UninurseBook.
      * person must exist in the uninurse book.
@@ -126,6 +174,14 @@ public class UninurseBook implements ReadOnlyUninurseBook {
         persons.removePerson(person);
     }
 
+    /**
+     * Removes persons from the UninurseBook.
+     * persons must exist in the uninurse book.
+     */
+    public void removePersons(Collection<? extends Person> persons) {
+        this.persons.removePersons(persons);
+    }
+
     //// patient-level operations
 
     /**
@@ -137,6 +193,37 @@ public class UninurseBook implements ReadOnlyUninurseBook {
         return persons.getPatient(person);
     }
 
+    /**
+     * Returns the tasks of the patients that are due on the given day, in order of date and time.
+     */
+    public List<PatientTask> getTasksOnDay(DateTime day) {
+        return persons.getTasksOnDay(day);
+    }
+
+    /**
+     * Returns the patients with any task due on the given day. Patients are compared by reference.
+     */
+    public Set<Patient> getPatientsOnDay(DateTime day) {
+        return persons.getPatientsOnDay(day);
+    }
+
+    /**
+     * Returns the tasks of the patients that are due from the given date and time up to and including the other,
+     * in order of date and time. The stream must be consumed before the uninurse book changes.
+     */
+    public Stream<PatientTask> getTasksBetween(DateTime from, DateTime to) {
+        return persons.getTasksBetween(from, to);
+    }
+
+    /**
+     * Returns a predicate that tests whether a person is a patient in the uninurse book that satisfies every
+     * clause, using the search index of the uninurse book. The candidates of a search are checked in parallel if
+     * there are at least parallelThreshold of them.
+     */
+    public Predicate<Person> getPatientMatcher(List<PatientSearchIndex.Clause> clauses, int parallelThreshold) {
+        return persons.getPatientMatcher(clauses, parallelThreshold);
+    }
+
     //// list accessors
 
     @Override
@@ -1,8 +1,11 @@
 package seedu.uninurse.model;
 
-import java.util.List;
+import static seedu.uninurse.commons.util.CollectionUtil.requireAllNonNull;
+
 import java.util.Optional;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import seedu.uninurse.logic.commands.CommandResult;
 import seedu.uninurse.logic.commands.CommandType;
 import seedu.uninurse.model.person.Patient;
@@ -10,40 +13,87 @@ import seedu.uninurse.model.person.Person;
 
 /**
  * A snapshot of a UninurseBook after a command.
+ * The person and patient lists are persistent, so consecutive snapshots share every slot that was not changed.
+ * A snapshot never changes, so it can be read from other threads while the UninurseBook keeps changing.
  */
-public class UninurseBookSnapshot {
-    private final ReadOnlyUninurseBook uninurseBook;
+public class UninurseBookSnapshot implements ReadOnlyUninurseBook {
+    private final PersistentList<Person> persons;
+    private final PersistentList<Patient> patients;
     private final CommandResult commandResult;
+    private final long createdBytes;
+    private final long releasedBytes;
+    private final boolean hasUntrackedChanges;
 
     /**
      * Creates an UninurseBookSnapshot using the Persons in the toBeCopied.
      */
     public UninurseBookSnapshot(ReadOnlyUninurseBook toBeCopied) {
-        this.uninurseBook = new UninurseBook(toBeCopied);
-        this.commandResult = new CommandResult("", CommandType.EMPTY);
+        this(PersistentList.of(toBeCopied.getPersonList()), PersistentList.of(toBeCopied.getPatientList()),
+                new CommandResult("", CommandType.EMPTY));
     }
 
     /**
-     * Creates an UninurseBookSnapshot using the Persons in the toBeCopied
-     * and the commandResult.
+     * Creates an UninurseBookSnapshot using the given persons, patients and the commandResult.
      */
-    public UninurseBookSnapshot(ReadOnlyUninurseBook toBeCopied, CommandResult commandResult) {
-        this.uninurseBook = new UninurseBook(toBeCopied);
+    public UninurseBookSnapshot(PersistentList<Person> persons, PersistentList<Patient> patients,
+            CommandResult commandResult) {
+        this(persons, patients, commandResult, 0, 0, false);
+    }
+
+    /**
+     * Creates an UninurseBookSnapshot using the given persons, patients and the commandResult.
+     * createdBytes estimates the memory this snapshot retains on top of the previous snapshot, and releasedBytes
+     * estimates the memory of the previous snapshot that this snapshot no longer refers to.
+     * hasUntrackedChanges tells whether patients were replaced since the previous snapshot without being recorded
+     * by the PersonListTracker of the commandResult, such as by rolling their tasks over.
+     */
+    public UninurseBookSnapshot(PersistentList<Person> persons, PersistentList<Patient> patients,
+            CommandResult commandResult, long createdBytes, long releasedBytes, boolean hasUntrackedChanges) {
+        requireAllNonNull(persons, patients, commandResult);
+        this.persons = persons;
+        this.patients = patients;
         this.commandResult = commandResult;
+        this.createdBytes = createdBytes;
+        this.releasedBytes = releasedBytes;
+        this.hasUntrackedChanges = hasUntrackedChanges;
     }
 
     /**
-     * Returns the person list stored in uninurseBook.
+     * Returns the persistent person list stored in this snapshot.
      */
-    public List<Person> getPersonList() {
-        return uninurseBook.getPersonList();
+    public PersistentList<Person> getPersons() {
+        return persons;
     }
 
     /**
-     * Returns the patient list stored in uninurseBook.
+     * Returns the persistent patient list stored in this snapshot.
      */
-    public List<Patient> getPatientList() {
-        return uninurseBook.getPatientList();
+    public PersistentList<Patient> getPatients() {
+        return patients;
+    }
+
+    /**
+     * Returns an unmodifiable view of the person list stored in this snapshot.
+     */
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(persons.asList()));
+    }
+
+    /**
+     * Returns an unmodifiable view of the patient list stored in this snapshot.
+     */
+    @Override
+    public ObservableList<Patient> getPatientList() {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(patients.asList()));
+    }
+
+    /**
+     * Returns true if this snapshot holds the same versions of the person and patient lists as the other snapshot,
+     * which means no person or patient was added, removed or replaced between them.
+     */
+    public boolean hasSameListsAs(UninurseBookSnapshot other) {
+        return other != null && persons == other.persons && patients == other.patients;
     }
 
     public Optional<PersonListTracker> getPersonListTracker() {
@@ -54,11 +104,24 @@ public class UninurseBookSnapshot {
         return commandResult;
     }
 
+    public long getCreatedBytes() {
+        return createdBytes;
+    }
+
+    public long getReleasedBytes() {
+        return releasedBytes;
+    }
+
+    public boolean hasUntrackedChanges() {
+        return hasUntrackedChanges;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof UninurseBookSnapshot // instanceof handles nulls
-                && uninurseBook.equals(((UninurseBookSnapshot) other).uninurseBook))
-                && commandResult.equals(((UninurseBookSnapshot) other).commandResult);
+                && persons.equals(((UninurseBookSnapshot) other).persons)
+                && patients.equals(((UninurseBookSnapshot) other).patients)
+                && commandResult.equals(((UninurseBookSnapshot) other).commandResult));
     }
 }
@@ -1,6 +1,7 @@
 package seedu.uninurse.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.uninurse.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -12,9 +13,14 @@ import seedu.uninurse.commons.core.GuiSettings;
  * Represents User's preferences.
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
+    public static final int DEFAULT_PARALLEL_FIND_THRESHOLD = 5000;
+    public static final String MESSAGE_INVALID_PARALLEL_FIND_THRESHOLD =
+            "The parallel find threshold should be a positive number of patients";
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path uninurseBookFilePath = Paths.get("data" , "uninursebook.json");
+    // Patient lists with at least this many patients are searched in parallel
+    private int parallelFindThreshold = DEFAULT_PARALLEL_FIND_THRESHOLD;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +42,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setUninurseBookFilePath(newUserPrefs.getUninurseBookFilePath());
+        setParallelFindThreshold(newUserPrefs.getParallelFindThreshold());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +63,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.uninurseBookFilePath = uninurseBookFilePath;
     }
 
+    public int getParallelFindThreshold() {
+        return parallelFindThreshold;
+    }
+
+    public void setParallelFindThreshold(int parallelFindThreshold) {
+        checkArgument(parallelFindThreshold > 0, MESSAGE_INVALID_PARALLEL_FIND_THRESHOLD);
+        this.parallelFindThreshold = parallelFindThreshold;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -68,12 +84,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && uninurseBookFilePath.equals(o.uninurseBookFilePath);
+                && uninurseBookFilePath.equals(o.uninurseBookFilePath)
+                && parallelFindThreshold == o.parallelFindThreshold;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, uninurseBookFilePath);
+        return Objects.hash(guiSettings, uninurseBookFilePath, parallelFindThreshold);
     }
 
     @Override
@@ -81,6 +98,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + uninurseBookFilePath);
+        sb.append("\nParallel find threshold : " + parallelFindThreshold);
         return sb.toString();
     }
 
@@ -3,6 +3,8 @@ package seedu.uninurse.model.condition;
 import static seedu.uninurse.commons.util.AppUtil.checkArgument;
 import static seedu.uninurse.commons.util.CollectionUtil.requireAllNonNull;
 
+import seedu.uninurse.commons.util.StringUtil;
+
 /**
  * Represents a Patient's medical condition.
  */
@@ -16,6 +18,7 @@ public class Condition {
     public static final String VALIDATION_REGEX = "[^\\s].*";
 
     public final String condition;
+    private final String searchKey;
 
     /**
      * Constructs a condition.
@@ -26,6 +29,7 @@ public class Condition {
         requireAllNonNull(condition);
         checkArgument(isValidCondition(condition), MESSAGE_CONSTRAINTS);
         this.condition = condition;
+        this.searchKey = StringUtil.toSearchKey(this.condition);
     }
 
     /**
@@ -38,6 +42,11 @@ public class Condition {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /** Returns the condition normalized for case-insensitive search. */
+    public String getSearchKey() {
+        return searchKey;
+    }
+
     @Override
     public String toString() {
         return condition;
@@ -11,16 +11,21 @@ import seedu.uninurse.model.person.Patient;
  */
 public class ConditionContainsKeywordsPredicate implements Predicate<Patient> {
     private final List<String> keywords;
+    private final List<String> searchKeywords;
 
     public ConditionContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.searchKeywords = StringUtil.toSearchKeys(keywords);
     }
 
     @Override
     public boolean test(Patient person) {
-        return keywords.stream().anyMatch(keyword ->
-                person.getConditions().getInternalList().stream().anyMatch(
-                    condition -> StringUtil.containsIgnoreCase(condition.toString(), keyword)));
+        for (Condition condition : person.getConditions().getInternalList()) {
+            if (StringUtil.containsAnySearchKey(condition.getSearchKey(), searchKeywords)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
@@ -5,6 +5,8 @@ import static seedu.uninurse.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Optional;
 
+import seedu.uninurse.commons.util.StringUtil;
+
 /**
  * Represents a Patient's required medication type and dosage
  */
@@ -22,6 +24,7 @@ public class Medication {
 
     private final String medicationType;
     private final String medicationDosage;
+    private final String searchKey;
 
     /**
      * Constructs a Medication.
@@ -34,6 +37,7 @@ public class Medication {
         checkArgument(isValidMedication(medicationType, medicationDosage), MESSAGE_CONSTRAINTS);
         this.medicationType = medicationType;
         this.medicationDosage = medicationDosage;
+        this.searchKey = StringUtil.toSearchKey(toString());
     }
 
     /**
@@ -62,6 +66,11 @@ public class Medication {
         return medicationDosage;
     }
 
+    /** Returns the medication, as it is displayed, normalized for case-insensitive search. */
+    public String getSearchKey() {
+        return searchKey;
+    }
+
     @Override
     public String toString() {
         return medicationType + " | " + medicationDosage;
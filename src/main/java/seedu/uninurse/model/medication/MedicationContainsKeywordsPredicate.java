@@ -11,16 +11,21 @@ import seedu.uninurse.model.person.Patient;
  */
 public class MedicationContainsKeywordsPredicate implements Predicate<Patient> {
     private final List<String> keywords;
+    private final List<String> searchKeywords;
 
     public MedicationContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.searchKeywords = StringUtil.toSearchKeys(keywords);
     }
 
     @Override
     public boolean test(Patient person) {
-        return keywords.stream().anyMatch(keyword ->
-                person.getMedications().getInternalList().stream().anyMatch(
-                    medication -> StringUtil.containsIgnoreCase(medication.toString(), keyword)));
+        for (Medication medication : person.getMedications().getInternalList()) {
+            if (StringUtil.containsAnySearchKey(medication.getSearchKey(), searchKeywords)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
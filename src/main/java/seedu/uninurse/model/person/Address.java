@@ -3,6 +3,8 @@ package seedu.uninurse.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.uninurse.commons.util.AppUtil.checkArgument;
 
+import seedu.uninurse.commons.util.StringUtil;
+
 /**
  * Represents a Patient's address in the uninurse book.
  * Guarantees: immutable; is valid as declared in {@link #isValidAddress(String)}
@@ -17,6 +19,7 @@ public class Address {
     public static final String VALIDATION_REGEX = "[^\\s].*";
 
     private final String value;
+    private final String searchKey;
 
     /**
      * Constructs an {@code Address}.
@@ -27,6 +30,7 @@ public class Address {
         requireNonNull(address);
         checkArgument(isValidAddress(address), MESSAGE_CONSTRAINTS);
         this.value = address;
+        this.searchKey = StringUtil.toSearchKey(value);
     }
 
     /**
@@ -40,6 +44,11 @@ public class Address {
         return value;
     }
 
+    /** Returns the address normalized for case-insensitive search. */
+    public String getSearchKey() {
+        return searchKey;
+    }
+
     @Override
     public String toString() {
         return value;
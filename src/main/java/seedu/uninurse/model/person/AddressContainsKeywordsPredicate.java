@@ -10,15 +10,16 @@ import seedu.uninurse.commons.util.StringUtil;
  */
 public class AddressContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    private final List<String> searchKeywords;
 
     public AddressContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.searchKeywords = StringUtil.toSearchKeys(keywords);
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsIgnoreCase(person.getAddress().toString(), keyword));
+        return StringUtil.containsAnySearchKey(person.getAddress().getSearchKey(), searchKeywords);
     }
 
     @Override
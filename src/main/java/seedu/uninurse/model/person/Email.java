@@ -3,6 +3,8 @@ package seedu.uninurse.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.uninurse.commons.util.AppUtil.checkArgument;
 
+import seedu.uninurse.commons.util.StringUtil;
+
 /**
  * Represents a Patient's email in the uninurse book.
  * Guarantees: immutable; is valid as declared in {@link #isValidEmail(String)}
@@ -33,6 +35,7 @@ public class Email {
     public static final String VALIDATION_REGEX = LOCAL_PART_REGEX + "@" + DOMAIN_REGEX;
 
     private final String value;
+    private final String searchKey;
 
     /**
      * Constructs an {@code Email}.
@@ -43,6 +46,7 @@ public class Email {
         requireNonNull(email);
         checkArgument(isValidEmail(email), MESSAGE_CONSTRAINTS);
         this.value = email;
+        this.searchKey = StringUtil.toSearchKey(value);
     }
 
     /**
@@ -56,6 +60,11 @@ public class Email {
         return value;
     }
 
+    /** Returns the email address normalized for case-insensitive search. */
+    public String getSearchKey() {
+        return searchKey;
+    }
+
     @Override
     public String toString() {
         return value;
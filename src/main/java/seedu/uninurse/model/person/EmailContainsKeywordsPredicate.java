@@ -10,15 +10,16 @@ import seedu.uninurse.commons.util.StringUtil;
  */
 public class EmailContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    private final List<String> searchKeywords;
 
     public EmailContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.searchKeywords = StringUtil.toSearchKeys(keywords);
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsIgnoreCase(person.getEmail().toString(), keyword));
+        return StringUtil.containsAnySearchKey(person.getEmail().getSearchKey(), searchKeywords);
     }
 
     @Override
@@ -3,6 +3,8 @@ package seedu.uninurse.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.uninurse.commons.util.AppUtil.checkArgument;
 
+import seedu.uninurse.commons.util.StringUtil;
+
 /**
  * Represents a Patient's name in the uninurse book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -18,6 +20,7 @@ public class Name {
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
     private final String fullName;
+    private final String searchKey;
 
     /**
      * Constructs a {@code Name}.
@@ -28,6 +31,7 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         this.fullName = name;
+        this.searchKey = StringUtil.toSearchKey(fullName);
     }
 
     /**
@@ -41,6 +45,11 @@ public class Name {
         return fullName;
     }
 
+    /** Returns the name normalized for case-insensitive search. */
+    public String getSearchKey() {
+        return searchKey;
+    }
+
     @Override
     public String toString() {
         return fullName;
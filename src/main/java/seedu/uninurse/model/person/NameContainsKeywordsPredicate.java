@@ -10,15 +10,16 @@ import seedu.uninurse.commons.util.StringUtil;
  */
 public class NameContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    private final List<String> searchKeywords;
 
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.searchKeywords = StringUtil.toSearchKeys(keywords);
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsIgnoreCase(person.getName().toString(), keyword));
+        return StringUtil.containsAnySearchKey(person.getName().getSearchKey(), searchKeywords);
     }
 
     @Override
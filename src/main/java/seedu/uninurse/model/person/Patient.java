@@ -138,9 +138,14 @@ public class Patient extends Person {
                 && otherPerson.getEmail().equals(getEmail());
     }
 
+    /**
+     * Returns this patient with the recurring tasks that have passed rolled over, or this patient itself if no
+     * task has passed.
+     */
     @Override
-    public void update() {
-        tasks.updateTasks();
+    public Patient update() {
+        TaskList updatedTasks = tasks.updateTasks();
+        return updatedTasks == tasks ? this : new Patient(this, updatedTasks);
     }
 
     @Override
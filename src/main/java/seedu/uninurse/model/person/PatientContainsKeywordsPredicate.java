@@ -1,21 +1,18 @@
 package seedu.uninurse.model.person;
 
-import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.function.Predicate;
 
-import seedu.uninurse.model.condition.ConditionContainsKeywordsPredicate;
-import seedu.uninurse.model.medication.MedicationContainsKeywordsPredicate;
-import seedu.uninurse.model.remark.RemarkContainsKeywordsPredicate;
-import seedu.uninurse.model.task.TaskContainsKeywordsPredicate;
+import seedu.uninurse.model.PatientSearchIndex.Clause;
+import seedu.uninurse.model.PatientSearchIndex.Field;
 
 /**
  * Tests that at least one of the Patient's details matches any of the keywords given.
  */
 public class PatientContainsKeywordsPredicate implements Predicate<Patient> {
     private final List<String> keywords;
-    private final List<Predicate<? super Patient>> predicates;
-
+    private final Clause clause;
 
     /**
      * Constructs a PatientContainsKeywordsPredicate
@@ -25,17 +22,12 @@ public class PatientContainsKeywordsPredicate implements Predicate<Patient> {
      */
     public PatientContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
-        this.predicates = new ArrayList<>();
-        this.predicates.add(new PersonContainsKeywordsPredicate(keywords));
-        this.predicates.add(new ConditionContainsKeywordsPredicate(keywords));
-        this.predicates.add(new TaskContainsKeywordsPredicate(keywords));
-        this.predicates.add(new MedicationContainsKeywordsPredicate(keywords));
-        this.predicates.add(new RemarkContainsKeywordsPredicate(keywords));
+        this.clause = new Clause(EnumSet.allOf(Field.class), keywords);
     }
 
     @Override
     public boolean test(Patient person) {
-        return predicates.stream().anyMatch(x -> x.test(person));
+        return clause.test(person);
     }
 
     @Override
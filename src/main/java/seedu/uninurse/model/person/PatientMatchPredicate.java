@@ -11,22 +11,26 @@ import static seedu.uninurse.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.uninurse.logic.parser.CliSyntax.PREFIX_TASK_DESCRIPTION;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
 import java.util.List;
-import java.util.function.Function;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.uninurse.logic.parser.ArgumentMultimap;
-import seedu.uninurse.model.condition.ConditionContainsKeywordsPredicate;
-import seedu.uninurse.model.medication.MedicationContainsKeywordsPredicate;
-import seedu.uninurse.model.remark.RemarkContainsKeywordsPredicate;
-import seedu.uninurse.model.tag.TagContainsKeywordsPredicate;
-import seedu.uninurse.model.task.TaskContainsKeywordsPredicate;
+import seedu.uninurse.model.PatientSearchIndex.Clause;
+import seedu.uninurse.model.PatientSearchIndex.Field;
 
 /**
  * Tests that a Patient matches with all descriptors.
+ * The descriptors are compiled into a flat plan of clauses, one for each kind of descriptor, which is evaluated
+ * from the cheapest clause to the most expensive one.
  */
 public class PatientMatchPredicate implements Predicate<Patient> {
-    private final List<Predicate<? super Patient>> predicates;
+    private final List<Clause> clauses;
+    private final Clause[] plan;
 
     /**
      * Constructs a PatientMatchPredicate
@@ -46,34 +50,53 @@ public class PatientMatchPredicate implements Predicate<Patient> {
      * @param arg      the argument multimap
      */
     public PatientMatchPredicate(List<String> keywords, ArgumentMultimap arg) {
-        this.predicates = new ArrayList<>();
-        addPredicate(keywords, x -> new PatientContainsKeywordsPredicate(x));
-        addPredicate(arg.getAllValues(PREFIX_NAME), x -> new NameContainsKeywordsPredicate(x));
-        addPredicate(arg.getAllValues(PREFIX_PHONE), x -> new PhoneContainsKeywordsPredicate(x));
-        addPredicate(arg.getAllValues(PREFIX_EMAIL), x -> new EmailContainsKeywordsPredicate(x));
-        addPredicate(arg.getAllValues(PREFIX_ADDRESS), x -> new AddressContainsKeywordsPredicate(x));
-        addPredicate(arg.getAllValues(PREFIX_TAG), x -> new TagContainsKeywordsPredicate(x));
-        addPredicate(arg.getAllValues(PREFIX_TASK_DESCRIPTION), x -> new TaskContainsKeywordsPredicate(x));
-        addPredicate(arg.getAllValues(PREFIX_CONDITION), x -> new ConditionContainsKeywordsPredicate(x));
-        addPredicate(arg.getAllValues(PREFIX_MEDICATION), x -> new MedicationContainsKeywordsPredicate(x));
-        addPredicate(arg.getAllValues(PREFIX_REMARK), x -> new RemarkContainsKeywordsPredicate(x));
+        this.clauses = new ArrayList<>();
+        addClause(keywords, EnumSet.allOf(Field.class));
+        addClause(arg.getAllValues(PREFIX_NAME), Field.NAME);
+        addClause(arg.getAllValues(PREFIX_PHONE), Field.PHONE);
+        addClause(arg.getAllValues(PREFIX_EMAIL), Field.EMAIL);
+        addClause(arg.getAllValues(PREFIX_ADDRESS), Field.ADDRESS);
+        addClause(arg.getAllValues(PREFIX_TAG), Field.TAG);
+        addClause(arg.getAllValues(PREFIX_TASK_DESCRIPTION), Field.TASK);
+        addClause(arg.getAllValues(PREFIX_CONDITION), Field.CONDITION);
+        addClause(arg.getAllValues(PREFIX_MEDICATION), Field.MEDICATION);
+        addClause(arg.getAllValues(PREFIX_REMARK), Field.REMARK);
+
+        this.plan = clauses.toArray(new Clause[0]);
+        Arrays.sort(plan, Comparator.comparingInt(Clause::getCost));
+    }
+
+    private void addClause(List<String> list, Field field) {
+        addClause(list, EnumSet.of(field));
     }
 
-    private void addPredicate(List<String> list, Function<List<String>, Predicate<? super Patient>> function) {
+    private void addClause(List<String> list, Set<Field> fields) {
         if (!list.isEmpty()) {
-            predicates.add(function.apply(list));
+            clauses.add(new Clause(fields, list));
         }
     }
 
+    /**
+     * Returns the clauses a patient has to satisfy, which can be looked up in a {@code PatientSearchIndex}.
+     */
+    public List<Clause> getClauses() {
+        return Collections.unmodifiableList(clauses);
+    }
+
     @Override
     public boolean test(Patient patient) {
-        return predicates.stream().allMatch(x -> x.test(patient));
+        for (Clause clause : plan) {
+            if (!clause.test(patient)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof PatientMatchPredicate // instanceof handles nulls
-                && predicates.equals(((PatientMatchPredicate) other).predicates)); // state check
+                && clauses.equals(((PatientMatchPredicate) other).clauses)); // state check
     }
 }
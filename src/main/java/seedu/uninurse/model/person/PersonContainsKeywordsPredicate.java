@@ -31,7 +31,12 @@ public class PersonContainsKeywordsPredicate implements Predicate<Person> {
 
     @Override
     public boolean test(Person person) {
-        return predicates.stream().anyMatch(x -> x.test(person));
+        for (Predicate<Person> predicate : predicates) {
+            if (predicate.test(person)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
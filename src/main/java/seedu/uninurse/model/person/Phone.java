@@ -3,6 +3,8 @@ package seedu.uninurse.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.uninurse.commons.util.AppUtil.checkArgument;
 
+import seedu.uninurse.commons.util.StringUtil;
+
 /**
  * Represents a Patient's phone number in the uninurse book.
  * Guarantees: immutable; is valid as declared in {@link #isValidPhone(String)}
@@ -13,6 +15,7 @@ public class Phone {
     public static final String VALIDATION_REGEX = "\\d{3,}";
 
     private final String value;
+    private final String searchKey;
 
     /**
      * Constructs a {@code Phone}.
@@ -23,6 +26,7 @@ public class Phone {
         requireNonNull(phone);
         checkArgument(isValidPhone(phone), MESSAGE_CONSTRAINTS);
         this.value = phone;
+        this.searchKey = StringUtil.toSearchKey(value);
     }
 
     /**
@@ -36,6 +40,11 @@ public class Phone {
         return value;
     }
 
+    /** Returns the phone number normalized for case-insensitive search. */
+    public String getSearchKey() {
+        return searchKey;
+    }
+
     @Override
     public String toString() {
         return value;
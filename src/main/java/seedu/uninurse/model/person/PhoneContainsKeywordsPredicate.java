@@ -10,15 +10,16 @@ import seedu.uninurse.commons.util.StringUtil;
  */
 public class PhoneContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    private final List<String> searchKeywords;
 
     public PhoneContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.searchKeywords = StringUtil.toSearchKeys(keywords);
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsIgnoreCase(person.getPhone().toString(), keyword));
+        return StringUtil.containsAnySearchKey(person.getPhone().getSearchKey(), searchKeywords);
     }
 
     @Override
@@ -2,14 +2,31 @@ package seedu.uninurse.model.person;
 
 import static seedu.uninurse.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener.Change;
 import javafx.collections.ObservableList;
+import seedu.uninurse.model.PatientSearchIndex;
+import seedu.uninurse.model.PatientTask;
+import seedu.uninurse.model.TaskCalendar;
 import seedu.uninurse.model.exceptions.PatientNotFoundException;
 import seedu.uninurse.model.person.exceptions.DuplicatePersonException;
 import seedu.uninurse.model.person.exceptions.PersonNotFoundException;
+import seedu.uninurse.model.task.DateTime;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -18,6 +35,13 @@ import seedu.uninurse.model.person.exceptions.PersonNotFoundException;
  * or updated is unique in terms of identity in the UniquePersonList. However, the removal of a person uses
  * Person#equals(Object) so as to ensure that the person with exactly the same fields will be removed.
  *
+ * Identity lookups are served by a hash index keyed on the identity fields of each person, which is kept
+ * in sync with the backing list so that duplicate checks do not need to scan the list. The patients are
+ * indexed the same way, so that the patient of a person is looked up without scanning the patient list.
+ * Likewise, the tasks of the patients are indexed by day in a {@code TaskCalendar}.
+ * The patient list is changed before the person list, so that what listens to the person list, such as a filter
+ * that tests the patients of its persons, sees the patients and their indexes already updated.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -27,12 +51,26 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalPersonList);
     private final ObservableList<Patient> internalPatientList = FXCollections.observableArrayList();
+    private final Map<IdentityKey, Person> identityIndex = new HashMap<>();
+    private final Map<IdentityKey, Patient> patientIndex = new HashMap<>();
+    private final TaskCalendar taskCalendar = new TaskCalendar();
+    private final PatientSearchIndex patientSearchIndex = new PatientSearchIndex();
+
+    /**
+     * Constructs an empty UniquePersonList.
+     */
+    public UniquePersonList() {
+        internalPatientList.addListener(taskCalendar::applyChange);
+        internalPatientList.addListener(patientSearchIndex::applyChange);
+        internalPatientList.addListener(this::updatePatientIndex);
+    }
+
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireAllNonNull(toCheck);
-        return internalPersonList.stream().anyMatch(toCheck::isSamePerson);
+        return identityIndex.containsKey(new IdentityKey(toCheck));
     }
 
     /**
@@ -45,6 +83,20 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalPersonList.add(toAdd);
+        identityIndex.put(new IdentityKey(toAdd), toAdd);
+    }
+
+    /**
+     * Inserts a person at the given position of the list.
+     * The person must not already exist in the list.
+     */
+    public void addPerson(int index, Person toAdd) {
+        requireAllNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicatePersonException();
+        }
+        internalPersonList.add(index, toAdd);
+        identityIndex.put(new IdentityKey(toAdd), toAdd);
     }
 
     /**
@@ -65,6 +117,8 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalPersonList.set(index, editedPerson);
+        identityIndex.remove(new IdentityKey(person));
+        identityIndex.put(new IdentityKey(editedPerson), editedPerson);
     }
 
     /**
@@ -73,8 +127,24 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void addPatient(Patient patient) {
         requireAllNonNull(patient);
-        addPerson(patient);
+        if (contains(patient)) {
+            throw new DuplicatePersonException();
+        }
         internalPatientList.add(patient);
+        addPerson(patient);
+    }
+
+    /**
+     * Inserts a patient at the given positions of the person list and the patient list.
+     * The patient must not already exist in the list.
+     */
+    public void addPatient(int personIndex, int patientIndex, Patient patient) {
+        requireAllNonNull(patient);
+        if (contains(patient)) {
+            throw new DuplicatePersonException();
+        }
+        internalPatientList.add(patientIndex, patient);
+        addPerson(personIndex, patient);
     }
 
     /**
@@ -84,7 +154,15 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPatient(Patient patient, Patient editedPatient) {
         requireAllNonNull(patient, editedPatient);
-        setPerson(patient, editedPatient);
+
+        int personIndex = internalPersonList.indexOf(patient);
+        if (personIndex == -1) {
+            throw new PersonNotFoundException();
+        }
+
+        if (!patient.isSamePerson(editedPatient) && contains(editedPatient)) {
+            throw new DuplicatePersonException();
+        }
 
         int index = internalPatientList.indexOf(patient);
         if (index == -1) {
@@ -92,6 +170,55 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalPatientList.set(index, editedPatient);
+        internalPersonList.set(personIndex, editedPatient);
+        identityIndex.remove(new IdentityKey(patient));
+        identityIndex.put(new IdentityKey(editedPatient), editedPatient);
+    }
+
+    /**
+     * Replaces each patient in patients with the editedPatient at the same position in editedPatients, in a
+     * single pass over the list instead of searching the list for every patient.
+     * Every patient must exist in the list, and is matched by reference.
+     * The patient identity of an editedPatient must not be the same as another existing patient in the list, nor
+     * as another editedPatient.
+     */
+    public void setPatients(List<Patient> patients, List<Patient> editedPatients) {
+        requireAllNonNull(patients, editedPatients);
+        assert patients.size() == editedPatients.size();
+
+        Map<Person, Patient> replacements = new IdentityHashMap<>();
+        Set<IdentityKey> editedIdentities = new HashSet<>();
+        for (int i = 0; i < patients.size(); i++) {
+            Patient patient = patients.get(i);
+            Patient editedPatient = editedPatients.get(i);
+            if (!patient.isSamePerson(editedPatient) && contains(editedPatient)) {
+                throw new DuplicatePersonException();
+            }
+            if (!editedIdentities.add(new IdentityKey(editedPatient))) {
+                throw new DuplicatePersonException();
+            }
+            replacements.put(patient, editedPatient);
+        }
+
+        List<Integer> personIndexes = indexesOf(internalPersonList, replacements);
+        List<Integer> patientIndexes = indexesOf(internalPatientList, replacements);
+        if (personIndexes.size() < replacements.size()) {
+            throw new PersonNotFoundException();
+        }
+        if (patientIndexes.size() < replacements.size()) {
+            throw new PatientNotFoundException();
+        }
+
+        for (int index : patientIndexes) {
+            internalPatientList.set(index, replacements.get(internalPatientList.get(index)));
+        }
+        for (int index : personIndexes) {
+            Person person = internalPersonList.get(index);
+            Patient editedPatient = replacements.get(person);
+            internalPersonList.set(index, editedPatient);
+            identityIndex.remove(new IdentityKey(person));
+            identityIndex.put(new IdentityKey(editedPatient), editedPatient);
+        }
     }
 
     /**
@@ -103,13 +230,40 @@ public class UniquePersonList implements Iterable<Person> {
         if (!internalPersonList.remove(toRemove)) {
             throw new PersonNotFoundException();
         }
+        identityIndex.remove(new IdentityKey(toRemove));
         internalPatientList.remove(toRemove);
     }
 
+    /**
+     * Removes the equivalent persons from the list, in a single pass over the list.
+     * The persons must exist in the list.
+     */
+    public void removePersons(Collection<? extends Person> toRemove) {
+        requireAllNonNull(toRemove);
+        // The stored persons are looked up by identity, so the lists are only scanned once, by reference
+        Set<Person> storedPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Person person : toRemove) {
+            Person storedPerson = identityIndex.get(new IdentityKey(person));
+            if (storedPerson == null || !storedPerson.equals(person)) {
+                throw new PersonNotFoundException();
+            }
+            storedPersons.add(storedPerson);
+        }
+
+        internalPersonList.removeAll(storedPersons);
+        internalPatientList.removeAll(storedPersons);
+        storedPersons.forEach(person -> identityIndex.remove(new IdentityKey(person)));
+    }
+
+    /**
+     * Replaces the contents of this list with the contents of replacement.
+     */
     public void setPersons(UniquePersonList replacement) {
         requireAllNonNull(replacement);
-        internalPersonList.setAll(replacement.internalPersonList);
         internalPatientList.setAll(replacement.internalPatientList);
+        internalPersonList.setAll(replacement.internalPersonList);
+        identityIndex.clear();
+        identityIndex.putAll(replacement.identityIndex);
     }
 
     /**
@@ -123,6 +277,7 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalPersonList.setAll(persons);
+        rebuildIdentityIndex();
     }
 
     /**
@@ -131,7 +286,7 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPatients(List<Patient> patients) {
         requireAllNonNull(patients);
-        if (!patientsAreUnique(patients)) {
+        if (!personsAreUnique(patients)) {
             throw new DuplicatePersonException();
         }
 
@@ -146,13 +301,12 @@ public class UniquePersonList implements Iterable<Person> {
     public Patient getPatient(Person person) throws PatientNotFoundException {
         requireAllNonNull(person);
 
-        int index = internalPatientList.indexOf(person);
-
-        if (index == -1) {
+        Patient patient = patientIndex.get(new IdentityKey(person));
+        if (patient == null || !person.equals(patient)) {
             throw new PatientNotFoundException();
         }
 
-        return internalPatientList.get(index);
+        return patient;
     }
 
     /**
@@ -166,33 +320,120 @@ public class UniquePersonList implements Iterable<Person> {
         return FXCollections.unmodifiableObservableList(internalPatientList);
     }
 
-    public void updatePersons() {
-        internalPersonList.forEach(p -> p.update());
+    /**
+     * Rolls over the recurring tasks that have passed.
+     * Only the patients that the task calendar reports as due are updated, so nothing is scanned when no
+     * recurring task has passed since the last update. Every patient whose tasks changed is replaced by its
+     * updated copy, so the change reaches the listeners of the list like any other edit.
+     *
+     * @return the updated copy of each patient that was replaced, keyed by the patient it replaced.
+     */
+    public Map<Patient, Patient> updatePersons() {
+        List<Patient> patientsDue = taskCalendar.takePatientsDue();
+        List<Patient> patientsToUpdate = new ArrayList<>();
+        List<Patient> updatedPatients = new ArrayList<>();
+        for (Patient patient : patientsDue) {
+            Patient updatedPatient = patient.update();
+            if (updatedPatient != patient) {
+                patientsToUpdate.add(patient);
+                updatedPatients.add(updatedPatient);
+            }
+        }
+        if (patientsToUpdate.isEmpty()) {
+            return Map.of();
+        }
+
+        setPatients(patientsToUpdate, updatedPatients);
+        Map<Patient, Patient> replacements = new IdentityHashMap<>();
+        for (int i = 0; i < patientsToUpdate.size(); i++) {
+            replacements.put(patientsToUpdate.get(i), updatedPatients.get(i));
+        }
+        return replacements;
     }
 
     /**
-     * Returns true if persons contains only unique persons.
+     * Returns the earliest date and time a recurring task of any patient in the list has to be rolled over.
+     */
+    public Optional<DateTime> getNextRolloverDateTime() {
+        return taskCalendar.getNextDueDateTime();
+    }
+
+    /**
+     * Returns the tasks of the patients in the list that are due on the given day, in order of date and time.
+     */
+    public List<PatientTask> getTasksOnDay(DateTime day) {
+        return taskCalendar.getTasksOnDay(day);
+    }
+
+    /**
+     * Returns the patients in the list with any task due on the given day. Patients are compared by reference.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    public Set<Patient> getPatientsOnDay(DateTime day) {
+        return taskCalendar.getPatientsOnDay(day);
+    }
+
+    /**
+     * Returns the tasks of the patients in the list that are due from the given date and time up to and including
+     * the other, in order of date and time. The stream must be consumed before the list changes.
+     */
+    public Stream<PatientTask> getTasksBetween(DateTime from, DateTime to) {
+        return taskCalendar.getTasksBetween(from, to);
+    }
+
+    /**
+     * Returns a predicate that tests whether a person is a patient in the list that satisfies every clause,
+     * using the search index of the list. The candidates of a search are checked in parallel if there are at least
+     * parallelThreshold of them.
+     */
+    public Predicate<Person> getPatientMatcher(List<PatientSearchIndex.Clause> clauses, int parallelThreshold) {
+        return patientSearchIndex.matcher(clauses, parallelThreshold);
+    }
+
+    /**
+     * Returns the positions in list of the persons that are keys of replacements.
+     */
+    private static List<Integer> indexesOf(List<? extends Person> list, Map<Person, ?> replacements) {
+        List<Integer> indexes = new ArrayList<>(replacements.size());
+        for (int i = 0; i < list.size() && indexes.size() < replacements.size(); i++) {
+            if (replacements.containsKey(list.get(i))) {
+                indexes.add(i);
             }
         }
-        return true;
+        return indexes;
     }
 
     /**
-     * Returns true if patients contains only unique patients.
+     * Updates the patient index with a change of the patient list.
+     */
+    private void updatePatientIndex(Change<? extends Patient> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                continue;
+            }
+            // A patient is only unindexed if the index still maps its identity to it, as a replacement may have
+            // been indexed first
+            change.getRemoved().forEach(patient -> patientIndex.remove(new IdentityKey(patient), patient));
+            change.getAddedSubList().forEach(patient -> patientIndex.put(new IdentityKey(patient), patient));
+        }
+    }
+
+    /**
+     * Rebuilds the identity index from the backing list.
+     */
+    private void rebuildIdentityIndex() {
+        identityIndex.clear();
+        internalPersonList.forEach(person -> identityIndex.put(new IdentityKey(person), person));
+    }
+
+    /**
+     * Returns true if persons contains only unique persons.
+     * Runs in linear time by hashing the identity fields of each person.
      */
-    private boolean patientsAreUnique(List<Patient> patients) {
-        for (int i = 0; i < patients.size() - 1; i++) {
-            for (int j = i + 1; j < patients.size(); j++) {
-                if (patients.get(i).isSamePerson(patients.get(j))) {
-                    return false;
-                }
+    public static boolean personsAreUnique(List<? extends Person> persons) {
+        Set<IdentityKey> identities = new HashSet<>();
+        for (Person person : persons) {
+            if (!identities.add(new IdentityKey(person))) {
+                return false;
             }
         }
         return true;
@@ -215,4 +456,44 @@ public class UniquePersonList implements Iterable<Person> {
     public int hashCode() {
         return internalPersonList.hashCode();
     }
+
+    /**
+     * Hash key over the identity fields of a person.
+     * Two keys are equal if and only if their persons are the same by {@code Person#isSamePerson(Person)}.
+     */
+    private static final class IdentityKey {
+        private final Name name;
+        private final Phone phone;
+        private final Email email;
+        private final Address address;
+
+        private IdentityKey(Person person) {
+            this.name = person.getName();
+            this.phone = person.getPhone();
+            this.email = person.getEmail();
+            this.address = person.getAddress();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            if (!(other instanceof IdentityKey)) {
+                return false;
+            }
+
+            IdentityKey o = (IdentityKey) other;
+            return name.equals(o.name)
+                    && phone.equals(o.phone)
+                    && email.equals(o.email)
+                    && address.equals(o.address);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, phone, email, address);
+        }
+    }
 }
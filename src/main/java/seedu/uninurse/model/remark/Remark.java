@@ -3,6 +3,8 @@ package seedu.uninurse.model.remark;
 import static seedu.uninurse.commons.util.AppUtil.checkArgument;
 import static seedu.uninurse.commons.util.CollectionUtil.requireAllNonNull;
 
+import seedu.uninurse.commons.util.StringUtil;
+
 /**
  * Represents a Patient's additional information as remarks.
  * Guarantees: immutable; is valid as declared in {@link #isValidRemark(String)}
@@ -16,6 +18,7 @@ public class Remark {
     public static final String VALIDATION_REGEX = "[^\\s].*";
 
     private final String remark;
+    private final String searchKey;
 
     /**
      * Constructs a Remark.
@@ -26,6 +29,7 @@ public class Remark {
         requireAllNonNull(remark);
         checkArgument(isValidRemark(remark), MESSAGE_CONSTRAINTS);
         this.remark = remark;
+        this.searchKey = StringUtil.toSearchKey(remark);
     }
 
     /**
@@ -39,6 +43,11 @@ public class Remark {
         return remark;
     }
 
+    /** Returns the remark normalized for case-insensitive search. */
+    public String getSearchKey() {
+        return searchKey;
+    }
+
     @Override
     public String toString() {
         return remark;
@@ -11,16 +11,21 @@ import seedu.uninurse.model.person.Patient;
  */
 public class RemarkContainsKeywordsPredicate implements Predicate<Patient> {
     private final List<String> keywords;
+    private final List<String> searchKeywords;
 
     public RemarkContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.searchKeywords = StringUtil.toSearchKeys(keywords);
     }
 
     @Override
     public boolean test(Patient person) {
-        return keywords.stream().anyMatch(keyword ->
-                person.getRemarks().getInternalList().stream().anyMatch(
-                        remark -> StringUtil.containsIgnoreCase(remark.toString(), keyword)));
+        for (Remark remark : person.getRemarks().getInternalList()) {
+            if (StringUtil.containsAnySearchKey(remark.getSearchKey(), searchKeywords)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
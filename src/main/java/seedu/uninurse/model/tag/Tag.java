@@ -3,6 +3,8 @@ package seedu.uninurse.model.tag;
 import static seedu.uninurse.commons.util.AppUtil.checkArgument;
 import static seedu.uninurse.commons.util.CollectionUtil.requireAllNonNull;
 
+import seedu.uninurse.commons.util.StringUtil;
+
 /**
  * Represents a Patient's tag.
  */
@@ -16,6 +18,7 @@ public class Tag {
     public static final String VALIDATION_REGEX = "[^\\s].*";
 
     private final String tagName;
+    private final String searchKey;
 
     /**
      * Constructs a tag.
@@ -26,6 +29,7 @@ public class Tag {
         requireAllNonNull(tagName);
         checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
         this.tagName = tagName;
+        this.searchKey = StringUtil.toSearchKey(tagName);
     }
 
     /**
@@ -42,6 +46,11 @@ public class Tag {
         return tagName;
     }
 
+    /** Returns the tag name normalized for case-insensitive search. */
+    public String getSearchKey() {
+        return searchKey;
+    }
+
     /**
      * Format state as text for viewing.
      */
@@ -11,16 +11,21 @@ import seedu.uninurse.model.person.Person;
  */
 public class TagContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    private final List<String> searchKeywords;
 
     public TagContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.searchKeywords = StringUtil.toSearchKeys(keywords);
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream().anyMatch(keyword ->
-                person.getTags().getInternalList().stream().anyMatch(
-                    tag -> StringUtil.containsIgnoreCase(tag.toString(), keyword)));
+        for (Tag tag : person.getTags().getInternalList()) {
+            if (StringUtil.containsAnySearchKey(tag.getSearchKey(), searchKeywords)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
@@ -1,15 +1,20 @@
 package seedu.uninurse.model.task;
 
-import static java.time.temporal.ChronoUnit.DAYS;
 import static seedu.uninurse.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 
+import seedu.uninurse.model.ModelClock;
+
 /**
- * Represents Date & Time encapsulation for tasks
+ * Represents Date & Time encapsulation for tasks.
+ * A DateTime is stored as the number of minutes since the epoch on the local time-line, with the number of days
+ * since the epoch cached next to it, so comparing and grouping DateTimes by day only compares primitive values.
  */
 public class DateTime implements Comparable<DateTime> {
     public static final String DATE_TIME_PATTERN = "d-M-yy HHmm";
@@ -22,14 +27,18 @@ public class DateTime implements Comparable<DateTime> {
     public static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern(DATE_PATTERN);
     public static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern(TIME_PATTERN);
 
-    private final LocalDateTime dateTime;
+    private static final long MINUTES_PER_DAY = 24 * 60;
+    private static final long MINUTES_PER_WEEK = 7 * MINUTES_PER_DAY;
+    private static final long MILLIS_PER_MINUTE = 60 * 1000;
 
+    private final long epochMinute;
+    private final long epochDay;
 
     /**
      * Constructs a default Date and Time, one day from the current time.
      */
     public DateTime() {
-        dateTime = LocalDateTime.now().plusDays(1);
+        this(ModelClock.now().plusDays(1));
     }
 
     /**
@@ -40,34 +49,46 @@ public class DateTime implements Comparable<DateTime> {
     public DateTime(String validDateTime) {
         requireAllNonNull(validDateTime);
         assert(isValidDateTime(validDateTime));
-        dateTime = LocalDateTime.parse(validDateTime, DATE_TIME_FORMATTER);
+        epochMinute = toEpochMinute(LocalDateTime.parse(validDateTime, DATE_TIME_FORMATTER));
+        epochDay = Math.floorDiv(epochMinute, MINUTES_PER_DAY);
     }
 
     /**
-     * Constructs a DateTime.
+     * Constructs a DateTime. Any seconds of the given localDateTime are dropped.
      *
      * @param localDateTime the localDateTime to construct DateTime with.
      */
     public DateTime(LocalDateTime localDateTime) {
         requireAllNonNull(localDateTime);
-        dateTime = localDateTime;
+        epochMinute = toEpochMinute(localDateTime);
+        epochDay = Math.floorDiv(epochMinute, MINUTES_PER_DAY);
+    }
+
+    private DateTime(long epochMinute) {
+        this.epochMinute = epochMinute;
+        this.epochDay = Math.floorDiv(epochMinute, MINUTES_PER_DAY);
+    }
+
+    private static long toEpochMinute(LocalDateTime localDateTime) {
+        return Math.floorDiv(localDateTime.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+
+    private LocalDateTime toLocalDateTime() {
+        return LocalDateTime.ofEpochSecond(epochMinute * 60, 0, ZoneOffset.UTC);
     }
 
     /**
      * @return If the Date is today's date.
      */
     public boolean isToday() {
-        LocalDateTime today = LocalDateTime.now();
-
-        return today.getDayOfYear() == dateTime.getDayOfYear()
-                && today.getYear() == dateTime.getYear();
+        return epochDay == ModelClock.getEpochDay();
     }
 
     /**
      * @return If the Date has passed.
      */
     public boolean isPastDate() {
-        return dateTime.isBefore(LocalDateTime.now());
+        return epochMinute * MILLIS_PER_MINUTE < ModelClock.getLocalEpochMillis();
     }
 
     /**
@@ -77,7 +98,7 @@ public class DateTime implements Comparable<DateTime> {
      * @return Whether this DateTime is before the given DateTime.
      */
     public boolean isBefore(DateTime dateTimeToCheck) {
-        return dateTime.isBefore(dateTimeToCheck.dateTime);
+        return epochMinute < dateTimeToCheck.epochMinute;
     }
 
     /**
@@ -86,8 +107,14 @@ public class DateTime implements Comparable<DateTime> {
      * @return Days between today and the Date.
      */
     public int getDaysFromToday() {
-        Long daysBetween = DAYS.between(LocalDate.now(), this.dateTime.toLocalDate());
-        return daysBetween.intValue();
+        return Math.toIntExact(epochDay - ModelClock.getEpochDay());
+    }
+
+    /**
+     * Returns the amount of time between now and the DateTime, which is negative if the DateTime has passed.
+     */
+    public Duration getDurationFromNow() {
+        return Duration.ofMillis(epochMinute * MILLIS_PER_MINUTE - ModelClock.getLocalEpochMillis());
     }
 
     /**
@@ -133,16 +160,16 @@ public class DateTime implements Comparable<DateTime> {
         switch (recur) {
         case DAY:
         case DAYS:
-            return new DateTime(dateTime.plusDays(freq));
+            return new DateTime(epochMinute + freq * MINUTES_PER_DAY);
         case WEEK:
         case WEEKS:
-            return new DateTime(dateTime.plusWeeks(freq));
+            return new DateTime(epochMinute + freq * MINUTES_PER_WEEK);
         case MONTH:
         case MONTHS:
-            return new DateTime(dateTime.plusMonths(freq));
+            return new DateTime(toLocalDateTime().plusMonths(freq));
         case YEAR:
         case YEARS:
-            return new DateTime(dateTime.plusYears(freq));
+            return new DateTime(toLocalDateTime().plusYears(freq));
         default:
             return new DateTime();
         }
@@ -168,20 +195,31 @@ public class DateTime implements Comparable<DateTime> {
      * @return Whether the date portion is same as the Date portion of the given date.
      */
     public boolean isDate(DateTime dateToCheck) {
-        return this.dateTime.toLocalDate().equals(dateToCheck.dateTime.toLocalDate());
+        return epochDay == dateToCheck.epochDay;
     }
 
     public String getDate() {
-        return dateTime.toLocalDate().toString();
+        return toLocalDate().toString();
+    }
+
+    public LocalDate toLocalDate() {
+        return LocalDate.ofEpochDay(epochDay);
+    }
+
+    /**
+     * Returns the number of days since the epoch of the date portion.
+     */
+    public long getEpochDay() {
+        return epochDay;
     }
 
     public String getTime() {
-        return dateTime.toLocalTime().format(TIME_FORMATTER);
+        return toLocalDateTime().toLocalTime().format(TIME_FORMATTER);
     }
 
     @Override
     public String toString() {
-        return dateTime.format(DATE_TIME_FORMATTER);
+        return toLocalDateTime().format(DATE_TIME_FORMATTER);
     }
 
     @Override
@@ -194,21 +232,16 @@ public class DateTime implements Comparable<DateTime> {
             return false;
         }
 
-        DateTime o = (DateTime) other;
+        return epochMinute == ((DateTime) other).epochMinute;
+    }
 
-        return this.dateTime.getYear() == o.dateTime.getYear()
-                && this.dateTime.getDayOfYear() == o.dateTime.getDayOfYear()
-                && this.dateTime.getHour() == o.dateTime.getHour()
-                && this.dateTime.getMinute() == o.dateTime.getMinute();
+    @Override
+    public int hashCode() {
+        return Long.hashCode(epochMinute);
     }
 
     @Override
     public int compareTo(DateTime o) {
-        // Special check for equality since we do not want any time period smaller than a minute affecting equality.
-        if (this.equals(o)) {
-            return 0;
-        }
-
-        return dateTime.isBefore(o.dateTime) ? -1 : 1;
+        return Long.compare(epochMinute, o.epochMinute);
     }
 }
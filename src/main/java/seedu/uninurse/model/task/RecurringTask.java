@@ -1,13 +1,21 @@
 package seedu.uninurse.model.task;
 
 import static java.lang.Integer.parseInt;
-import static java.util.Objects.requireNonNull;
+import static seedu.uninurse.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+
+import seedu.uninurse.model.ModelClock;
 
 /**
  * Represents a Recurring Task for a Patient.
+ * A RecurringTask is stored as a rule: it occurs at its start date and time, and every frequency recurrence
+ * periods after it. Its date and time is the occurrence that is currently due, which rolls forward once it has
+ * passed, while the other occurrences are only expanded when a range of days is queried.
  */
 public class RecurringTask extends Task {
 
@@ -17,25 +25,27 @@ public class RecurringTask extends Task {
 
     private final Recurrence recurrence;
     private final int frequency;
+    private final DateTime startDateTime;
 
     /**
      * Constructs a {@code RecurringTask} from the given description
-     * dateAndTime and frequency.
+     * dateAndTime and frequency, which starts at dateAndTime.
      */
     public RecurringTask(String description, DateTime dateAndTime, Recurrence recur, int freq) {
-        super(description, dateAndTime);
-        requireNonNull(recur);
-        recurrence = recur;
-        frequency = freq;
+        this(description, dateAndTime, recur, freq, dateAndTime);
     }
 
     /**
-     * Returns the next {@code RecurringTask} that's going to occur at the
-     * RecurringTask's frequency
+     * Constructs a {@code RecurringTask} from the given description
+     * dateAndTime and frequency, which started at startDateTime.
      */
-    public RecurringTask getNextRecurringTask() {
-        return new RecurringTask(super.getTaskDescription(),
-                super.getDateTime().plusDuration(recurrence, frequency), recurrence, frequency);
+    public RecurringTask(String description, DateTime dateAndTime, Recurrence recur, int freq,
+            DateTime startDateTime) {
+        super(description, dateAndTime);
+        requireAllNonNull(recur, startDateTime);
+        recurrence = recur;
+        frequency = freq;
+        this.startDateTime = startDateTime;
     }
 
     /**
@@ -96,19 +106,133 @@ public class RecurringTask extends Task {
         return frequency;
     }
 
+    public DateTime getStartDateTime() {
+        return startDateTime;
+    }
+
+    /**
+     * Returns true if the date and time of this RecurringTask is one of the occurrences of its rule, which it is
+     * not if the rule starts after it or never reaches it.
+     */
+    public boolean isOccurrenceOfRule() {
+        return getFirstOccurrenceFrom(getDateTime().toLocalDate()).equals(Optional.of(getDateTime()));
+    }
+
+    /**
+     * Returns whether the given RecurringTask follows the same rule as this one and is currently due at the
+     * same occurrence, regardless of when either of them started.
+     */
+    public boolean isSameOccurrence(RecurringTask other) {
+        return getTaskDescription().equals(other.getTaskDescription())
+                && getDateTime().equals(other.getDateTime())
+                && recurrence.equals(other.recurrence)
+                && frequency == other.frequency;
+    }
+
+    /**
+     * Returns a key that is equal for two RecurringTasks exactly when they are at the same occurrence, so that
+     * RecurringTasks can be grouped by occurrence in a hash map.
+     */
+    public List<Object> getOccurrenceKey() {
+        return List.of(getTaskDescription(), getDateTime(), recurrence, frequency);
+    }
+
+    /**
+     * Returns this RecurringTask rolled forward to its first occurrence that has not passed.
+     * The occurrence is computed from the start of the rule, so none of the passed occurrences are stored.
+     */
     @Override
     public List<Task> updateTask() {
-        ArrayList<Task> updatedTasks = new ArrayList<>();
-        RecurringTask nextRecurringTask = this;
+        LocalDate today = ModelClock.today();
+        long index = estimateOccurrenceIndex(today);
+        DateTime occurrence = getOccurrence(index);
+        while (occurrence.isPastDate() && frequency > 0) {
+            index++;
+            occurrence = getOccurrence(index);
+        }
+        return List.of(withOccurrence(occurrence));
+    }
 
-        while (nextRecurringTask.passedTaskDate()) {
-            updatedTasks.add(nextRecurringTask);
-            nextRecurringTask = nextRecurringTask.getNextRecurringTask();
+    @Override
+    public List<Task> getOccurrencesBetween(LocalDate fromDay, LocalDate toDay) {
+        requireAllNonNull(fromDay, toDay);
+        if (frequency <= 0) {
+            return super.getOccurrencesBetween(fromDay, toDay);
+        }
+
+        List<Task> occurrences = new ArrayList<>();
+        long index = getFirstOccurrenceIndexFrom(fromDay);
+        DateTime occurrence = getOccurrence(index);
+        while (!occurrence.toLocalDate().isAfter(toDay)) {
+            occurrences.add(withOccurrence(occurrence));
+            index++;
+            occurrence = getOccurrence(index);
+        }
+        return occurrences;
+    }
+
+    /**
+     * Returns the first occurrence of the rule on or after the given day, if there is any.
+     */
+    public Optional<DateTime> getFirstOccurrenceFrom(LocalDate day) {
+        requireAllNonNull(day);
+        if (frequency <= 0) {
+            return getDateTime().toLocalDate().isBefore(day) ? Optional.empty() : Optional.of(getDateTime());
+        }
+        return Optional.of(getOccurrence(getFirstOccurrenceIndexFrom(day)));
+    }
+
+    /**
+     * Returns the index of the first occurrence of the rule on or after the given day.
+     */
+    private long getFirstOccurrenceIndexFrom(LocalDate day) {
+        long index = estimateOccurrenceIndex(day);
+        while (getOccurrence(index).toLocalDate().isBefore(day)) {
+            index++;
         }
+        return index;
+    }
 
-        updatedTasks.add(nextRecurringTask);
+    /**
+     * Returns the occurrence of the rule that is index occurrences after its start.
+     */
+    private DateTime getOccurrence(long index) {
+        return startDateTime.plusDuration(recurrence, Math.toIntExact(index * frequency));
+    }
 
-        return updatedTasks;
+    /**
+     * Returns the index of an occurrence of the rule that is due before the given day, or of its first occurrence,
+     * so that only a few occurrences have to be stepped over to reach the given day.
+     */
+    private long estimateOccurrenceIndex(LocalDate day) {
+        if (frequency <= 0) {
+            return 0;
+        }
+        long periods = getUnit(recurrence).between(startDateTime.toLocalDate(), day);
+        return Math.max(0, periods / frequency - 1);
+    }
+
+    private RecurringTask withOccurrence(DateTime occurrence) {
+        if (occurrence.equals(getDateTime())) {
+            return this;
+        }
+        return new RecurringTask(getTaskDescription(), occurrence, recurrence, frequency, startDateTime);
+    }
+
+    private static ChronoUnit getUnit(Recurrence recurrence) {
+        switch (recurrence) {
+        case WEEK:
+        case WEEKS:
+            return ChronoUnit.WEEKS;
+        case MONTH:
+        case MONTHS:
+            return ChronoUnit.MONTHS;
+        case YEAR:
+        case YEARS:
+            return ChronoUnit.YEARS;
+        default:
+            return ChronoUnit.DAYS;
+        }
     }
 
     @Override
@@ -134,10 +258,8 @@ public class RecurringTask extends Task {
 
         RecurringTask o = (RecurringTask) other;
 
-        return this.getTaskDescription().equals(o.getTaskDescription())
-                && this.getDateTime().equals(o.getDateTime())
-                && this.recurrence.equals(o.recurrence)
-                && this.frequency == o.frequency;
+        return isSameOccurrence(o)
+                && this.startDateTime.equals(o.startDateTime);
     }
 
     private static boolean isSingularRecurrence(Recurrence recurrence) {
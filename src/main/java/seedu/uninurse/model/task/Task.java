@@ -4,8 +4,11 @@ import static java.util.Objects.requireNonNull;
 import static seedu.uninurse.commons.util.AppUtil.checkArgument;
 import static seedu.uninurse.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
 import java.util.List;
 
+import seedu.uninurse.commons.util.StringUtil;
+
 /**
  * Represents a Task for a Patient.
  *  * Guarantees: immutable; is valid as declared in {@link #isValidTaskDescription(String)}
@@ -24,6 +27,9 @@ public abstract class Task {
 
     private final DateTime dateTime;
 
+    // Computed on first use, since it depends on how the subclass formats the Task
+    private String searchKey;
+
     /**
      * Constructs a {@code Task} with the given {@code description}.
      */
@@ -58,6 +64,16 @@ public abstract class Task {
         return dateTime.isDate(test);
     }
 
+    /**
+     * Returns the occurrences of this Task that are due from the fromDay to the toDay inclusive,
+     * in order of date and time.
+     */
+    public List<Task> getOccurrencesBetween(LocalDate fromDay, LocalDate toDay) {
+        requireAllNonNull(fromDay, toDay);
+        LocalDate day = dateTime.toLocalDate();
+        return day.isBefore(fromDay) || day.isAfter(toDay) ? List.of() : List.of(this);
+    }
+
     public String getTaskDescription() {
         return taskDescription;
     }
@@ -66,6 +82,20 @@ public abstract class Task {
         return dateTime;
     }
 
+    /**
+     * Returns the Task, as it is displayed, normalized for case-insensitive search.
+     * The key is computed the first time it is asked for and reused afterwards.
+     */
+    public String getSearchKey() {
+        // A racy but benign cache, as with String#hashCode: every thread computes the same key
+        String key = searchKey;
+        if (key == null) {
+            key = StringUtil.toSearchKey(toString());
+            searchKey = key;
+        }
+        return key;
+    }
+
     /**
      * Returns whether the task date is past the current date.
      */
@@ -74,7 +104,7 @@ public abstract class Task {
     }
 
     /**
-     * TODO
+     * Returns the tasks that replace this Task once its date has passed, or an empty list if it stays as it is.
      */
     public abstract List<Task> updateTask();
 
@@ -11,16 +11,21 @@ import seedu.uninurse.model.person.Patient;
  */
 public class TaskContainsKeywordsPredicate implements Predicate<Patient> {
     private final List<String> keywords;
+    private final List<String> searchKeywords;
 
     public TaskContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.searchKeywords = StringUtil.toSearchKeys(keywords);
     }
 
     @Override
     public boolean test(Patient person) {
-        return keywords.stream().anyMatch(keyword ->
-                person.getTasks().getInternalList().stream().anyMatch(
-                    task -> StringUtil.containsIgnoreCase(task.toString(), keyword)));
+        for (Task task : person.getTasks().getInternalList()) {
+            if (StringUtil.containsAnySearchKey(task.getSearchKey(), searchKeywords)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
@@ -2,31 +2,37 @@ package seedu.uninurse.model.task;
 
 import static seedu.uninurse.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import seedu.uninurse.model.GenericList;
 import seedu.uninurse.model.ListModificationPair;
 import seedu.uninurse.model.ListModificationPair.ModificationType;
+import seedu.uninurse.model.ModelClock;
+import seedu.uninurse.model.PersistentList;
 import seedu.uninurse.model.task.exceptions.DuplicateTaskException;
 
 /**
- * Represents a list of tasks for a particular person.
+ * Represents a list of tasks for a particular person, kept sorted by date and time.
  * Supports a minimal set of list operations.
+ * Every version of the list shares its unchanged structure with the version it was derived from, so adding,
+ * editing or deleting a task takes O(log n) time instead of copying and sorting the whole list.
  */
 public class TaskList implements GenericList<Task> {
-    private List<Task> internalTaskList;
+    private final PersistentList<Task> internalTaskList;
 
     /**
      * Constructs an empty TaskList.
      */
     public TaskList() {
-        internalTaskList = new ArrayList<>();
+        internalTaskList = PersistentList.empty();
     }
 
     /**
@@ -36,8 +42,13 @@ public class TaskList implements GenericList<Task> {
      */
     public TaskList(ArrayList<Task> tasks) {
         requireAllNonNull(tasks);
+        List<Task> sortedTasks = new ArrayList<>(tasks);
+        sortedTasks.sort(Comparator.comparing(Task::getDateTime));
+        internalTaskList = PersistentList.of(sortedTasks);
+    }
+
+    private TaskList(PersistentList<Task> tasks) {
         internalTaskList = tasks;
-        internalTaskList.sort(Comparator.comparing(Task::getDateTime));
     }
 
     /**
@@ -50,14 +61,12 @@ public class TaskList implements GenericList<Task> {
     public TaskList add(Task task) {
         requireAllNonNull(task);
 
-        if (this.internalTaskList.contains(task)) {
+        if (contains(task)) {
             throw new DuplicateTaskException();
         }
 
-        ArrayList<Task> updatedTasks = new ArrayList<>(internalTaskList);
-        updatedTasks.add(task);
-        updatedTasks.sort(Comparator.comparing(Task::getDateTime));
-        return new TaskList(updatedTasks);
+        int insertionIndex = upperBound(task.getDateTime());
+        return new TaskList(internalTaskList.add(insertionIndex, task));
     }
 
     /**
@@ -71,14 +80,15 @@ public class TaskList implements GenericList<Task> {
     public TaskList edit(int index, Task task) {
         assert(index >= 0 && index <= this.size());
 
-        if (this.internalTaskList.contains(task)) {
+        if (contains(task)) {
             throw new DuplicateTaskException();
         }
 
-        ArrayList<Task> updatedTasks = new ArrayList<>(internalTaskList);
-        updatedTasks.set(index, task);
-        updatedTasks.sort(Comparator.comparing(Task::getDateTime));
-        return new TaskList(updatedTasks);
+        // Among tasks at the same time, the edited task keeps its place relative to the others
+        TaskList remainingTasks = new TaskList(internalTaskList.remove(index));
+        int insertionIndex = Math.max(remainingTasks.lowerBound(task.getDateTime()),
+                Math.min(index, remainingTasks.upperBound(task.getDateTime())));
+        return new TaskList(remainingTasks.internalTaskList.add(insertionIndex, task));
     }
 
     /**
@@ -90,10 +100,7 @@ public class TaskList implements GenericList<Task> {
     @Override
     public TaskList delete(int index) {
         assert(index >= 0 && index <= this.size());
-        ArrayList<Task> updatedTasks = new ArrayList<>(internalTaskList);
-        updatedTasks.remove(index);
-        updatedTasks.sort(Comparator.comparing(Task::getDateTime));
-        return new TaskList(updatedTasks);
+        return new TaskList(internalTaskList.remove(index));
     }
 
     /**
@@ -107,6 +114,67 @@ public class TaskList implements GenericList<Task> {
         return internalTaskList.get(index);
     }
 
+    /**
+     * Returns true if the TaskList contains the given task, or a RecurringTask due at the same occurrence of the
+     * same rule as it, regardless of when either of them started.
+     * Such tasks are due at the same time, so only the tasks at that time are compared.
+     */
+    public boolean contains(Task task) {
+        requireAllNonNull(task);
+        DateTime dateTime = task.getDateTime();
+        for (int index = lowerBound(dateTime); index < size(); index++) {
+            Task existingTask = internalTaskList.get(index);
+            if (!existingTask.getDateTime().equals(dateTime)) {
+                break;
+            }
+            if (isSameTask(existingTask, task)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isSameTask(Task task, Task otherTask) {
+        if (task instanceof RecurringTask && otherTask instanceof RecurringTask) {
+            return ((RecurringTask) task).isSameOccurrence((RecurringTask) otherTask);
+        }
+        return task.equals(otherTask);
+    }
+
+    /**
+     * Returns the index of the first task that is due at or after the given date and time.
+     */
+    private int lowerBound(DateTime dateTime) {
+        int low = 0;
+        int high = size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (internalTaskList.get(mid).getDateTime().compareTo(dateTime) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the first task that is due after the given date and time.
+     */
+    private int upperBound(DateTime dateTime) {
+        int low = 0;
+        int high = size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (internalTaskList.get(mid).getDateTime().compareTo(dateTime) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
     /**
      * @return The size of the list.
      */
@@ -128,7 +196,7 @@ public class TaskList implements GenericList<Task> {
      */
     @Override
     public List<Task> getInternalList() {
-        return Collections.unmodifiableList(internalTaskList);
+        return internalTaskList.asList();
     }
 
     @Override
@@ -166,52 +234,101 @@ public class TaskList implements GenericList<Task> {
     }
 
     /**
-     * Returns a list of Tasks that are due on a given day.
+     * Returns a list of Tasks that are due on a given day, including the occurrences of RecurringTasks.
      *
      * @param day to get the Tasks on.
      * @return The List of Tasks on the given Day.
      */
     public List<Task> getAllTasksOnDay(DateTime day) {
-        return internalTaskList.stream().filter(t -> t.isTaskOnDay(day)).collect(Collectors.toList());
+        LocalDate date = day.toLocalDate();
+        return internalTaskList.asList().stream().flatMap(t -> t.getOccurrencesBetween(date, date).stream())
+                .sorted(Comparator.comparing(Task::getDateTime)).collect(Collectors.toList());
     }
 
     /**
      * @return The List of Tasks that are for today.
      */
     public List<Task> getAllTasksToday() {
-        return internalTaskList.stream().filter(Task::isTaskToday).collect(Collectors.toList());
+        return getAllTasksOnDay(new DateTime(ModelClock.now()));
     }
 
     /**
      * @return If the TaskList contains any Tasks that are for today.
      */
     public boolean containsTaskToday() {
-        return !this.getAllTasksToday().isEmpty();
+        LocalDate today = ModelClock.today();
+        for (Task task : internalTaskList) {
+            if (!task.getOccurrencesBetween(today, today).isEmpty()) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
-     * Updates this TaskList with all the new tasks generated because of RecurringTasks
-     * and their next RecurringTask once past the task date.
+     * Returns this TaskList with every RecurringTask whose date has passed rolled forward to its next occurrence,
+     * or this TaskList itself if no task has passed.
+     * Tasks that are due at the same occurrence of the same rule, such as the occurrences that older versions
+     * stored separately, are merged into the one that started earliest.
      */
-    public void updateTasks() {
-        List<Task> updatedTasks = new ArrayList<>(internalTaskList);
-        Set<Task> tmpTasks = new HashSet<Task>();
+    public TaskList updateTasks() {
+        List<Task> updatedTasks = new ArrayList<>(size());
+        boolean isUpdated = false;
         for (Task task : internalTaskList) {
-            if (task.passedTaskDate()) {
-                tmpTasks.addAll(task.updateTask());
+            List<Task> replacements = task.passedTaskDate() ? task.updateTask() : List.of();
+            if (replacements.isEmpty()) {
+                updatedTasks.add(task);
+            } else {
+                updatedTasks.addAll(replacements);
+                isUpdated = true;
+            }
+        }
+        if (!isUpdated) {
+            return this;
+        }
+
+        List<Task> mergedTasks = mergeSameOccurrences(updatedTasks);
+        mergedTasks.sort(Comparator.comparing(Task::getDateTime));
+        return new TaskList(PersistentList.of(mergedTasks));
+    }
+
+    /**
+     * Returns the given tasks without duplicates, where RecurringTasks that are due at the same occurrence are
+     * merged into the one that started earliest.
+     */
+    private static List<Task> mergeSameOccurrences(List<Task> tasks) {
+        List<Task> mergedTasks = new ArrayList<>(tasks.size());
+        Set<Task> seenTasks = new HashSet<>();
+        // The index in mergedTasks of the RecurringTask kept for each occurrence
+        Map<List<Object>, Integer> occurrenceIndexes = new HashMap<>();
+        for (Task task : tasks) {
+            if (!seenTasks.add(task)) {
+                continue;
+            }
+            if (!(task instanceof RecurringTask)) {
+                mergedTasks.add(task);
+                continue;
+            }
+
+            RecurringTask recurringTask = (RecurringTask) task;
+            Integer index = occurrenceIndexes.putIfAbsent(recurringTask.getOccurrenceKey(), mergedTasks.size());
+            if (index == null) {
+                mergedTasks.add(recurringTask);
+                continue;
+            }
+            RecurringTask existingTask = (RecurringTask) mergedTasks.get(index);
+            if (recurringTask.getStartDateTime().isBefore(existingTask.getStartDateTime())) {
+                mergedTasks.set(index, recurringTask);
             }
         }
-        updatedTasks.addAll(tmpTasks.stream().filter(task -> !updatedTasks.contains(task))
-                .collect(Collectors.toList()));
-        updatedTasks.sort(Comparator.comparing(Task::getDateTime));
-        internalTaskList = updatedTasks;
+        return mergedTasks;
     }
 
     @Override
     public String toString() {
         final StringBuilder sb = new StringBuilder();
-        for (int index = 0; index < internalTaskList.size(); index++) {
-            Task t = internalTaskList.get(index);
+        int index = 0;
+        for (Task t : internalTaskList) {
             if (index == 0) {
                 sb.append(index + 1)
                         .append(". ")
@@ -222,6 +339,7 @@ public class TaskList implements GenericList<Task> {
                         .append(". ")
                         .append(t);
             }
+            index++;
         }
         return sb.toString();
     }
@@ -230,11 +348,11 @@ public class TaskList implements GenericList<Task> {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof TaskList // instanceof handles nulls
-                && internalTaskList.equals(((TaskList) other).internalTaskList));
+                && getInternalList().equals(((TaskList) other).getInternalList()));
     }
 
     @Override
     public int hashCode() {
-        return internalTaskList.hashCode();
+        return getInternalList().hashCode();
     }
 }
@@ -1,11 +1,11 @@
 package seedu.uninurse.model.util;
 
-import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import seedu.uninurse.model.ModelClock;
 import seedu.uninurse.model.ReadOnlyUninurseBook;
 import seedu.uninurse.model.UninurseBook;
 import seedu.uninurse.model.condition.Condition;
@@ -53,7 +53,7 @@ public class SampleDataUtil {
                 getConditionList("ACL tear"),
                 getMedicationList(new Medication("Amoxicillin", "0.5 g every 8 hours")),
                 getTaskList(new NonRecurringTask("Change dressing on right arm",
-                        new DateTime(LocalDateTime.now().plusDays(1)))),
+                        new DateTime(ModelClock.now().plusDays(1)))),
                 getRemarkList("Allergic to Amoxicillin")),
             new Patient(
                 new Name("Charlotte Oliveiro"),
@@ -0,0 +1,132 @@
+package seedu.uninurse.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.uninurse.commons.core.LogsCenter;
+import seedu.uninurse.commons.util.StringUtil;
+import seedu.uninurse.model.ReadOnlyUninurseBook;
+
+/**
+ * Saves UninurseBooks on a background thread.
+ * A save is delayed by a fixed amount of time after it is requested, and every save requested in the meantime
+ * replaces it, so a burst of requests results in a single write of the latest UninurseBook.
+ * The UninurseBooks given to this saver must not change after they are given, since they are written later
+ * from another thread.
+ * The result of every background write is passed to a result handler on the saver thread, empty if it succeeded.
+ */
+public class DebouncedUninurseBookSaver {
+    private static final Logger logger = LogsCenter.getLogger(DebouncedUninurseBookSaver.class);
+
+    private final UninurseBookStorage storage;
+    private final long delayMillis;
+    private final ScheduledExecutorService executor;
+    // Held while taking a pending UninurseBook and writing it, so writes happen in the order they were requested
+    private final Object writeLock = new Object();
+
+    private ReadOnlyUninurseBook pendingUninurseBook;
+    private ScheduledFuture<?> scheduledWrite;
+    private IOException failure;
+    private Consumer<Optional<IOException>> resultHandler = result -> {};
+
+    /**
+     * Creates a {@code DebouncedUninurseBookSaver} that writes to the given storage delayMillis milliseconds
+     * after the first of a burst of save requests.
+     */
+    public DebouncedUninurseBookSaver(UninurseBookStorage storage, long delayMillis) {
+        requireNonNull(storage);
+        this.storage = storage;
+        this.delayMillis = delayMillis;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "uninurse-book-saver");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Requests the given UninurseBook to be saved, replacing any UninurseBook that is still waiting to be saved.
+     */
+    public synchronized void requestSave(ReadOnlyUninurseBook uninurseBook) {
+        requireNonNull(uninurseBook);
+        pendingUninurseBook = uninurseBook;
+        if (scheduledWrite == null) {
+            scheduledWrite = executor.schedule(this::writePending, delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Sets the handler that is given the result of every background write, on the saver thread.
+     */
+    public synchronized void setResultHandler(Consumer<Optional<IOException>> resultHandler) {
+        requireNonNull(resultHandler);
+        this.resultHandler = resultHandler;
+    }
+
+    /**
+     * Returns the exception thrown by the latest failed background write, and forgets about it.
+     */
+    public synchronized Optional<IOException> takeFailure() {
+        Optional<IOException> takenFailure = Optional.ofNullable(failure);
+        failure = null;
+        return takenFailure;
+    }
+
+    /**
+     * Writes the UninurseBook that is waiting to be saved on the calling thread, after any write in progress.
+     *
+     * @throws IOException if there was an error writing to the storage.
+     */
+    public void flush() throws IOException {
+        synchronized (writeLock) {
+            ReadOnlyUninurseBook uninurseBook;
+            synchronized (this) {
+                uninurseBook = pendingUninurseBook;
+                pendingUninurseBook = null;
+                if (scheduledWrite != null) {
+                    scheduledWrite.cancel(false);
+                    scheduledWrite = null;
+                }
+            }
+            if (uninurseBook != null) {
+                storage.saveUninurseBook(uninurseBook);
+            }
+        }
+    }
+
+    private void writePending() {
+        synchronized (writeLock) {
+            ReadOnlyUninurseBook uninurseBook;
+            synchronized (this) {
+                uninurseBook = pendingUninurseBook;
+                pendingUninurseBook = null;
+                scheduledWrite = null;
+            }
+            if (uninurseBook == null) {
+                return;
+            }
+            Optional<IOException> result = Optional.empty();
+            try {
+                storage.saveUninurseBook(uninurseBook);
+            } catch (IOException e) {
+                logger.warning("Failed to save uninurse book " + StringUtil.getDetails(e));
+                result = Optional.of(e);
+            }
+
+            Consumer<Optional<IOException>> handler;
+            synchronized (this) {
+                failure = result.orElse(null);
+                handler = resultHandler;
+            }
+            handler.accept(result);
+        }
+    }
+}
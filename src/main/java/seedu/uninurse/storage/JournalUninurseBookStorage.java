@@ -0,0 +1,256 @@
+package seedu.uninurse.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+import seedu.uninurse.commons.core.LogsCenter;
+import seedu.uninurse.commons.exceptions.DataConversionException;
+import seedu.uninurse.commons.exceptions.IllegalValueException;
+import seedu.uninurse.commons.util.FileUtil;
+import seedu.uninurse.commons.util.JsonUtil;
+import seedu.uninurse.model.ReadOnlyUninurseBook;
+import seedu.uninurse.model.UninurseBook;
+import seedu.uninurse.model.person.Patient;
+
+/**
+ * A class to access UninurseBook data stored as a json snapshot plus an append-only journal of the changes
+ * made since the snapshot was written.
+ * Each save appends a line to the journal for every run of patients that changed since the previous save, which
+ * replaces that run, so the I/O of a save grows with the number of changed patients rather than with the
+ * uninurse book.
+ * The journal is compacted into a new snapshot once it has compactionInterval entries.
+ * The first line of the journal holds the checksum of the snapshot it applies to, so a journal that outlived
+ * the snapshot it belongs to because of a crash during compaction is ignored.
+ */
+public class JournalUninurseBookStorage implements UninurseBookStorage {
+    private static final Logger logger = LogsCenter.getLogger(JournalUninurseBookStorage.class);
+    private static final String JOURNAL_FILE_SUFFIX = ".journal";
+    private static final String JOURNAL_HEADER_PREFIX = "snapshot checksum: ";
+
+    private final JsonUninurseBookStorage snapshotStorage;
+    private final int compactionInterval;
+
+    private List<Patient> lastSavedPatients;
+    private int journalEntryCount;
+    private boolean isJournalDamaged;
+
+    /**
+     * Creates a {@code JournalUninurseBookStorage} that writes its snapshots through snapshotStorage and compacts
+     * the journal once it has compactionInterval entries.
+     */
+    public JournalUninurseBookStorage(JsonUninurseBookStorage snapshotStorage, int compactionInterval) {
+        requireNonNull(snapshotStorage);
+        this.snapshotStorage = snapshotStorage;
+        this.compactionInterval = compactionInterval;
+    }
+
+    @Override
+    public Path getUninurseBookFilePath() {
+        return snapshotStorage.getUninurseBookFilePath();
+    }
+
+    /**
+     * Returns the path of the journal that belongs to the snapshot at filePath.
+     */
+    public static Path getJournalPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyUninurseBook> readUninurseBook() throws DataConversionException, IOException {
+        return readUninurseBook(getUninurseBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #readUninurseBook()}.
+     * Reads the snapshot at filePath and replays its journal on top of it.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataConversionException if the snapshot or the journal is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyUninurseBook> readUninurseBook(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyUninurseBook> snapshot = snapshotStorage.readUninurseBook(filePath);
+        if (!snapshot.isPresent()) {
+            return Optional.empty();
+        }
+
+        UninurseBook uninurseBook = new UninurseBook(snapshot.get());
+        int entryCount = 0;
+        boolean isDamaged = false;
+        List<String> journal = readJournal(filePath);
+        for (int i = 1; i < journal.size(); i++) {
+            try {
+                JsonUtil.fromJsonString(journal.get(i), JsonAdaptedJournalEntry.class).applyTo(uninurseBook);
+                entryCount++;
+            } catch (IOException e) {
+                if (i < journal.size() - 1) {
+                    throw new DataConversionException(e);
+                }
+                // Only the last entry can be cut short by a crash while it was appended
+                logger.warning("Ignoring incomplete last entry of journal " + getJournalPath(filePath));
+                isDamaged = true;
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + getJournalPath(filePath) + ": " + ive.getMessage());
+                throw new DataConversionException(ive);
+            }
+        }
+
+        if (filePath.equals(getUninurseBookFilePath())) {
+            lastSavedPatients = new ArrayList<>(uninurseBook.getPatientList());
+            journalEntryCount = entryCount;
+            isJournalDamaged = isDamaged;
+        }
+        return Optional.of(uninurseBook);
+    }
+
+    /**
+     * Returns the lines of the journal of the snapshot at filePath, starting with its header.
+     * Returns no lines if there is no journal or if it belongs to a different snapshot.
+     */
+    private List<String> readJournal(Path filePath) throws IOException {
+        Path journalPath = getJournalPath(filePath);
+        if (!FileUtil.isFileExists(journalPath)) {
+            return List.of();
+        }
+
+        List<String> journal = Files.readAllLines(journalPath);
+        if (journal.isEmpty() || !journal.get(0).equals(getJournalHeader(filePath))) {
+            logger.info("Ignoring journal " + journalPath + " that belongs to an earlier snapshot");
+            return List.of();
+        }
+        return journal;
+    }
+
+    @Override
+    public void saveUninurseBook(ReadOnlyUninurseBook uninurseBook) throws IOException {
+        saveUninurseBook(uninurseBook, getUninurseBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveUninurseBook(ReadOnlyUninurseBook)}.
+     * Only saves to the journal of this storage's own file path, and writes a snapshot to any other file path.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    @Override
+    public void saveUninurseBook(ReadOnlyUninurseBook uninurseBook, Path filePath) throws IOException {
+        requireNonNull(uninurseBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getUninurseBookFilePath())) {
+            writeSnapshot(uninurseBook, filePath);
+            return;
+        }
+        if (lastSavedPatients == null || isJournalDamaged || journalEntryCount >= compactionInterval) {
+            compactUninurseBook(uninurseBook);
+            return;
+        }
+
+        List<Patient> patients = uninurseBook.getPatientList();
+        List<JsonAdaptedJournalEntry> entries = getChangedRuns(lastSavedPatients, patients);
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        // The entries of a save are appended at once, so a crash can only cut the last one short
+        StringBuilder journalLines = new StringBuilder();
+        for (JsonAdaptedJournalEntry entry : entries) {
+            journalLines.append(JsonUtil.toCompactJsonString(entry)).append("\n");
+        }
+        FileUtil.appendToFile(getJournalPath(filePath), journalLines.toString());
+        journalEntryCount += entries.size();
+        lastSavedPatients = new ArrayList<>(patients);
+    }
+
+    /**
+     * Returns the journal entries that turn the saved patients into the given patients, one for every run of
+     * patients that changed between patients that did not. Patients are compared by reference, since commands
+     * replace the patients they change.
+     * The patients that did not change are expected to keep their order. If they did not, the rest of the patients
+     * from the first one out of order are replaced in a single entry.
+     */
+    private static List<JsonAdaptedJournalEntry> getChangedRuns(List<Patient> savedPatients,
+            List<Patient> patients) {
+        Set<Patient> savedPatientSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        savedPatientSet.addAll(savedPatients);
+        Set<Patient> patientSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        patientSet.addAll(patients);
+
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        int savedIndex = 0;
+        int index = 0;
+        while (savedIndex < savedPatients.size() || index < patients.size()) {
+            if (savedIndex < savedPatients.size() && index < patients.size()
+                    && savedPatients.get(savedIndex) == patients.get(index)) {
+                savedIndex++;
+                index++;
+                continue;
+            }
+
+            // The entries before this one have been applied when this one is, so it starts at the current index
+            int from = index;
+            int removedCount = 0;
+            while (savedIndex < savedPatients.size() && !patientSet.contains(savedPatients.get(savedIndex))) {
+                savedIndex++;
+                removedCount++;
+            }
+            while (index < patients.size() && !savedPatientSet.contains(patients.get(index))) {
+                index++;
+            }
+            if (removedCount == 0 && index == from) {
+                // Neither patient changed but they differ, so the patients that did not change are out of order
+                removedCount = savedPatients.size() - savedIndex;
+                savedIndex = savedPatients.size();
+                index = patients.size();
+            }
+
+            entries.add(new JsonAdaptedJournalEntry(from, removedCount, patients.subList(from, index).stream()
+                    .map(JsonAdaptedPatient::new).collect(Collectors.toList())));
+        }
+        return entries;
+    }
+
+    /**
+     * Writes the given uninurse book as a new snapshot and starts an empty journal for it.
+     */
+    @Override
+    public void compactUninurseBook(ReadOnlyUninurseBook uninurseBook) throws IOException {
+        requireNonNull(uninurseBook);
+
+        writeSnapshot(uninurseBook, getUninurseBookFilePath());
+        lastSavedPatients = new ArrayList<>(uninurseBook.getPatientList());
+        journalEntryCount = 0;
+        isJournalDamaged = false;
+    }
+
+    private void writeSnapshot(ReadOnlyUninurseBook uninurseBook, Path filePath) throws IOException {
+        snapshotStorage.saveUninurseBook(uninurseBook, filePath);
+        FileUtil.writeToFile(getJournalPath(filePath), getJournalHeader(filePath) + "\n");
+    }
+
+    private static String getJournalHeader(Path filePath) throws IOException {
+        CRC32 checksum = new CRC32();
+        try (InputStream in = new CheckedInputStream(FileUtil.openFile(filePath), checksum)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        return JOURNAL_HEADER_PREFIX + Long.toHexString(checksum.getValue());
+    }
+}
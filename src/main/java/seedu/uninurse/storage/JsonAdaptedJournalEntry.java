@@ -0,0 +1,61 @@
+package seedu.uninurse.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.uninurse.commons.exceptions.IllegalValueException;
+import seedu.uninurse.model.UninurseBook;
+import seedu.uninurse.model.person.Patient;
+
+/**
+ * Jackson-friendly journal entry, which records that removedCount patients starting at the index from were
+ * replaced by the added patients.
+ */
+class JsonAdaptedJournalEntry {
+    public static final String MESSAGE_INVALID_RANGE = "Journal entry refers to patients that do not exist!";
+    public static final String MESSAGE_DUPLICATE_PATIENT = "Journal entry adds a duplicate patient!";
+
+    private final int from;
+    private final int removedCount;
+    private final List<JsonAdaptedPatient> added = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("from") int from, @JsonProperty("removedCount") int removedCount,
+            @JsonProperty("added") List<JsonAdaptedPatient> added) {
+        this.from = from;
+        this.removedCount = removedCount;
+        if (added != null) {
+            this.added.addAll(added);
+        }
+    }
+
+    /**
+     * Applies this journal entry to the given uninurse book, whose persons are all patients.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the entry.
+     */
+    public void applyTo(UninurseBook uninurseBook) throws IllegalValueException {
+        List<Patient> patients = uninurseBook.getPatientList();
+        if (from < 0 || removedCount < 0 || from + removedCount > patients.size()) {
+            throw new IllegalValueException(MESSAGE_INVALID_RANGE);
+        }
+
+        for (int i = 0; i < removedCount; i++) {
+            uninurseBook.removePerson(patients.get(from));
+        }
+
+        for (int i = 0; i < added.size(); i++) {
+            Patient patient = added.get(i).toModelType();
+            if (uninurseBook.hasPerson(patient)) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_PATIENT);
+            }
+            uninurseBook.addPatient(from + i, from + i, patient);
+        }
+    }
+}
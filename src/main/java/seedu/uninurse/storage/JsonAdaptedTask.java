@@ -19,19 +19,23 @@ public class JsonAdaptedTask {
     private final JsonAdaptedDateTime dateTime;
     private final Recurrence recurrence;
     private final int frequency;
+    private final JsonAdaptedDateTime startDateTime;
 
     /**
      * Constructs a {@code JsonAdaptedTask} with the given {@code taskDescription}.
+     * A recurring task without a startDateTime starts at its dateTime.
      */
     @JsonCreator
     public JsonAdaptedTask(@JsonProperty("taskDescription") String taskDescription,
                            @JsonProperty("dateTime") JsonAdaptedDateTime dateTime,
                            @JsonProperty("recurrence") Recurrence recur,
-                           @JsonProperty("frequency") int frequency) {
+                           @JsonProperty("frequency") int frequency,
+                           @JsonProperty("startDateTime") JsonAdaptedDateTime startDateTime) {
         this.taskDescription = taskDescription;
         this.dateTime = dateTime;
         this.recurrence = recur;
         this.frequency = frequency;
+        this.startDateTime = startDateTime;
     }
 
     /**
@@ -44,9 +48,11 @@ public class JsonAdaptedTask {
             RecurringTask recurTask = (RecurringTask) source;
             recurrence = recurTask.getRecurrence();
             frequency = recurTask.getFrequency();
+            startDateTime = new JsonAdaptedDateTime(recurTask.getStartDateTime());
         } else {
             recurrence = null;
             frequency = 0;
+            startDateTime = null;
         }
     }
 
@@ -62,8 +68,18 @@ public class JsonAdaptedTask {
 
         if (recurrence == null) {
             return new NonRecurringTask(taskDescription, dateTime.toModelType());
-        } else {
-            return new RecurringTask(taskDescription, dateTime.toModelType(), recurrence, frequency);
         }
+
+        if (frequency <= 0) {
+            throw new IllegalValueException(RecurringTask.MESSAGE_CONSTRAINTS);
+        }
+        DateTime modelDateTime = dateTime.toModelType();
+        DateTime modelStartDateTime = startDateTime == null ? modelDateTime : startDateTime.toModelType();
+        RecurringTask recurringTask = new RecurringTask(taskDescription, modelDateTime, recurrence, frequency,
+                modelStartDateTime);
+        if (!recurringTask.isOccurrenceOfRule()) {
+            throw new IllegalValueException(RecurringTask.MESSAGE_CONSTRAINTS);
+        }
+        return recurringTask;
     }
 }
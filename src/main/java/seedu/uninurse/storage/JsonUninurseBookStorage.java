@@ -19,12 +19,33 @@ import seedu.uninurse.model.ReadOnlyUninurseBook;
  */
 public class JsonUninurseBookStorage implements UninurseBookStorage {
 
+    public static final int DEFAULT_BACKUP_COUNT = 3;
+
     private static final Logger logger = LogsCenter.getLogger(JsonUninurseBookStorage.class);
 
     private Path filePath;
+    private final int backupCount;
+    private final boolean isCompact;
 
     public JsonUninurseBookStorage(Path filePath) {
+        this(filePath, DEFAULT_BACKUP_COUNT);
+    }
+
+    /**
+     * Creates a {@code JsonUninurseBookStorage} that keeps the previous backupCount versions of the data file.
+     */
+    public JsonUninurseBookStorage(Path filePath, int backupCount) {
+        this(filePath, backupCount, false);
+    }
+
+    /**
+     * Creates a {@code JsonUninurseBookStorage} that keeps the previous backupCount versions of the data file,
+     * and writes the data file without any whitespace between values if isCompact is true.
+     */
+    public JsonUninurseBookStorage(Path filePath, int backupCount, boolean isCompact) {
         this.filePath = filePath;
+        this.backupCount = backupCount;
+        this.isCompact = isCompact;
     }
 
     public Path getUninurseBookFilePath() {
@@ -38,13 +59,35 @@ public class JsonUninurseBookStorage implements UninurseBookStorage {
 
     /**
      * Similar to {@link #readUninurseBook()}.
+     * If the file is not in the correct format, the newest backup of it that is in the correct format is read.
      *
      * @param filePath location of the data. Cannot be null.
-     * @throws DataConversionException if the file is not in the correct format.
+     * @throws DataConversionException if the file and all its backups are not in the correct format.
      */
     public Optional<ReadOnlyUninurseBook> readUninurseBook(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
+        try {
+            return readUninurseBookFile(filePath);
+        } catch (DataConversionException dce) {
+            for (int index = 1; index <= backupCount; index++) {
+                Path backupPath = FileUtil.getBackupPath(filePath, index);
+                try {
+                    Optional<ReadOnlyUninurseBook> backup = readUninurseBookFile(backupPath);
+                    if (backup.isPresent()) {
+                        logger.warning("Data file " + filePath + " is not in the correct format. "
+                                + "Using its backup " + backupPath);
+                        return backup;
+                    }
+                } catch (DataConversionException backupDce) {
+                    logger.info("Backup " + backupPath + " is not in the correct format either");
+                }
+            }
+            throw dce;
+        }
+    }
+
+    private Optional<ReadOnlyUninurseBook> readUninurseBookFile(Path filePath) throws DataConversionException {
         Optional<JsonSerializableUninurseBook> jsonUninurseBook = JsonUtil.readJsonFile(
                 filePath, JsonSerializableUninurseBook.class);
         if (!jsonUninurseBook.isPresent()) {
@@ -73,8 +116,15 @@ public class JsonUninurseBookStorage implements UninurseBookStorage {
         requireNonNull(uninurseBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableUninurseBook(uninurseBook), filePath);
+        FileUtil.rotateBackups(filePath, backupCount);
+        JsonUtil.saveJsonFile(new JsonSerializableUninurseBook(uninurseBook), filePath, isCompact);
     }
 
+    /**
+     * Does nothing, since every save already writes the whole uninurse book.
+     */
+    @Override
+    public void compactUninurseBook(ReadOnlyUninurseBook uninurseBook) {
+        requireNonNull(uninurseBook);
+    }
 }
@@ -3,7 +3,9 @@ package seedu.uninurse.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.logging.Logger;
 
+import seedu.uninurse.commons.core.LogsCenter;
 import seedu.uninurse.commons.exceptions.DataConversionException;
 import seedu.uninurse.commons.util.JsonUtil;
 import seedu.uninurse.model.ReadOnlyUserPrefs;
@@ -13,6 +15,7 @@ import seedu.uninurse.model.UserPrefs;
  * A class to access UserPrefs stored in the hard disk as a json file
  */
 public class JsonUserPrefsStorage implements UserPrefsStorage {
+    private static final Logger logger = LogsCenter.getLogger(JsonUserPrefsStorage.class);
 
     private Path filePath;
 
@@ -32,11 +35,19 @@ public class JsonUserPrefsStorage implements UserPrefsStorage {
 
     /**
      * Similar to {@link #readUserPrefs()}
+     * A parallel find threshold that is not positive is replaced by the default threshold.
      * @param prefsFilePath location of the data. Cannot be null.
      * @throws DataConversionException if the file format is not as expected.
      */
     public Optional<UserPrefs> readUserPrefs(Path prefsFilePath) throws DataConversionException {
-        return JsonUtil.readJsonFile(prefsFilePath, UserPrefs.class);
+        Optional<UserPrefs> userPrefs = JsonUtil.readJsonFile(prefsFilePath, UserPrefs.class);
+        // The fields are read directly, so the threshold is not checked by its setter
+        userPrefs.filter(prefs -> prefs.getParallelFindThreshold() <= 0).ifPresent(prefs -> {
+            logger.warning("Parallel find threshold in prefs file is not positive. "
+                    + "Using the default parallel find threshold");
+            prefs.setParallelFindThreshold(UserPrefs.DEFAULT_PARALLEL_FIND_THRESHOLD);
+        });
+        return userPrefs;
     }
 
     @Override
@@ -75,4 +75,9 @@ public class StorageManager implements Storage {
         uninurseBookStorage.saveUninurseBook(uninurseBook, filePath);
     }
 
+    @Override
+    public void compactUninurseBook(ReadOnlyUninurseBook uninurseBook) throws IOException {
+        logger.fine("Attempting to compact data file: " + uninurseBookStorage.getUninurseBookFilePath());
+        uninurseBookStorage.compactUninurseBook(uninurseBook);
+    }
 }
@@ -42,4 +42,12 @@ public interface UninurseBookStorage {
      */
     void saveUninurseBook(ReadOnlyUninurseBook uninurseBook, Path filePath) throws IOException;
 
+    /**
+     * Saves the given {@link ReadOnlyUninurseBook} to the storage as a whole, so that reading it back does not
+     * depend on any earlier save.
+     * @param uninurseBook cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void compactUninurseBook(ReadOnlyUninurseBook uninurseBook) throws IOException;
+
 }
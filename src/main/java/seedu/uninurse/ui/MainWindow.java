@@ -2,6 +2,7 @@ package seedu.uninurse.ui;
 
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
@@ -143,6 +144,9 @@ public class MainWindow extends UiPart<Stage> {
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getUninurseBookFilePath());
         statusbarContainer.getChildren().add(statusBarFooter.getRoot());
+        // Saves happen in the background after the command that asked for them, so their result is only shown
+        // on the status bar instead of failing a later command
+        logic.setSaveResultHandler(saveResult -> Platform.runLater(() -> statusBarFooter.setSaveResult(saveResult)));
 
         patientHeader.setText("Patients");
         outputHeader.setText("Output");
@@ -1,11 +1,14 @@
 package seedu.uninurse.ui;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Optional;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
+import seedu.uninurse.logic.LogicManager;
 
 /**
  * A UI component for the status bar that is displayed at the footer of the application.
@@ -16,6 +19,9 @@ public class StatusBarFooter extends UiPart<Region> {
     @FXML
     private Label saveLocationStatus;
 
+    @FXML
+    private Label saveStatus;
+
     /**
      * Creates a StatusBarFooter with the given Path.
      */
@@ -23,4 +29,11 @@ public class StatusBarFooter extends UiPart<Region> {
         super(FXML);
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
     }
+
+    /**
+     * Shows the result of the latest save, which is cleared once a save succeeds.
+     */
+    public void setSaveResult(Optional<IOException> saveResult) {
+        saveStatus.setText(saveResult.map(e -> LogicManager.FILE_OPS_ERROR_MESSAGE + e).orElse(""));
+    }
 }
@@ -11,7 +11,12 @@ public class ConfigTest {
     @Test
     public void toString_defaultObject_stringReturned() {
         String defaultConfigAsString = "Current log level : INFO\n"
-                + "Preference file Location : preferences.json";
+                + "Preference file Location : preferences.json\n"
+                + "Undo limit : 100\n"
+                + "Undo byte budget : 67108864\n"
+                + "Compact data file : false\n"
+                + "Journal data file : false\n"
+                + "Journal compaction interval : 100";
 
         assertEquals(defaultConfigAsString, new Config().toString());
     }
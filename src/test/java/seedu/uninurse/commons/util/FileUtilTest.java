@@ -1,13 +1,29 @@
 package seedu.uninurse.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.uninurse.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path tempDir;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +36,49 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_existingFile_replacesContentWithoutTempFiles() throws IOException {
+        Path file = tempDir.resolve("folder").resolve("file.json");
+        FileUtil.writeToFile(file, "first");
+        FileUtil.writeToFile(file, "second");
+
+        assertEquals("second", FileUtil.readFromFile(file));
+        try (Stream<Path> files = Files.list(file.getParent())) {
+            assertEquals(List.of(file), files.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void writeToFile_existingFile_keepsPermissions() throws IOException {
+        Path file = tempDir.resolve("file.json");
+        FileUtil.writeToFile(file, "first");
+        // only file systems with POSIX permissions can tighten them
+        if (!Files.getFileStore(file).supportsFileAttributeView(PosixFileAttributeView.class)) {
+            return;
+        }
+
+        Set<PosixFilePermission> permissions = PosixFilePermissions.fromString("rw-r--r--");
+        Files.setPosixFilePermissions(file, permissions);
+        FileUtil.writeToFile(file, "second");
+
+        assertEquals(permissions, Files.getPosixFilePermissions(file));
+    }
+
+    @Test
+    public void rotateBackups_moreVersionsThanBackups_keepsNewestBackups() throws IOException {
+        Path file = tempDir.resolve("file.json");
+        FileUtil.rotateBackups(file, 2); // no file to back up yet
+        assertFalse(Files.exists(FileUtil.getBackupPath(file, 1)));
+
+        for (String content : List.of("first", "second", "third", "fourth")) {
+            FileUtil.rotateBackups(file, 2);
+            FileUtil.writeToFile(file, content);
+        }
+
+        assertEquals("fourth", FileUtil.readFromFile(file));
+        assertEquals("third", FileUtil.readFromFile(FileUtil.getBackupPath(file, 1)));
+        assertEquals("second", FileUtil.readFromFile(FileUtil.getBackupPath(file, 2)));
+        assertFalse(Files.exists(FileUtil.getBackupPath(file, 3)));
+    }
+
 }
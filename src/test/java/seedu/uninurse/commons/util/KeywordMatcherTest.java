@@ -0,0 +1,72 @@
+package seedu.uninurse.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.uninurse.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class KeywordMatcherTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new KeywordMatcher(null));
+    }
+
+    @Test
+    public void matches_noKeywords_returnsFalse() {
+        assertFalse(new KeywordMatcher(List.of()).matches("abc"));
+        assertFalse(new KeywordMatcher(List.of()).matches(""));
+    }
+
+    @Test
+    public void matches_emptyKeyword_returnsTrue() {
+        assertTrue(new KeywordMatcher(List.of("xyz", "")).matches(""));
+        assertTrue(new KeywordMatcher(List.of("")).matches("abc"));
+    }
+
+    @Test
+    public void matches_overlappingKeywords_correctResult() {
+        KeywordMatcher matcher = new KeywordMatcher(List.of("he", "she", "hers", "his"));
+        assertTrue(matcher.matches("ushers"));
+        assertTrue(matcher.matches("ahishers"));
+        assertTrue(matcher.matches("sh his"));
+        assertFalse(matcher.matches("shxe"));
+        assertFalse(matcher.matches(""));
+
+        // keyword only found through a failure transition
+        matcher = new KeywordMatcher(List.of("abcd", "bce"));
+        assertTrue(matcher.matches("abce"));
+        assertFalse(matcher.matches("abcx"));
+    }
+
+    @Test
+    public void matches_randomKeywords_sameAsContains() {
+        Random random = new Random(7);
+        for (int round = 0; round < 500; round++) {
+            List<String> keywords = new ArrayList<>();
+            int keywordCount = 2 + random.nextInt(4);
+            for (int i = 0; i < keywordCount; i++) {
+                keywords.add(randomText(random, 1 + random.nextInt(4)));
+            }
+            KeywordMatcher matcher = new KeywordMatcher(keywords);
+
+            String text = randomText(random, random.nextInt(20));
+            assertEquals(keywords.stream().anyMatch(text::contains), matcher.matches(text),
+                    keywords + " in " + text);
+        }
+    }
+
+    private static String randomText(Random random, int length) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            text.append("abc d".charAt(random.nextInt(5)));
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.uninurse.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.uninurse.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class MatchBitmapTest {
+    private static final Predicate<Integer> IS_MULTIPLE_OF_THREE = number -> number % 3 == 0;
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> MatchBitmap.of(null, IS_MULTIPLE_OF_THREE, 1));
+        assertThrows(NullPointerException.class, () -> MatchBitmap.of(List.of(1), null, 1));
+    }
+
+    @Test
+    public void of_emptyList_emptyBitmap() {
+        MatchBitmap bitmap = MatchBitmap.of(List.of(), IS_MULTIPLE_OF_THREE, 1);
+        assertEquals(0, bitmap.size());
+        assertEquals(0, bitmap.cardinality());
+    }
+
+    @Test
+    public void of_parallel_sameAsSequential() {
+        // large enough to be split into many tasks, and not a whole number of words
+        List<Integer> numbers = IntStream.range(0, 10007).boxed().collect(Collectors.toList());
+        MatchBitmap sequentialBitmap = MatchBitmap.of(numbers, IS_MULTIPLE_OF_THREE, Integer.MAX_VALUE);
+        MatchBitmap parallelBitmap = MatchBitmap.of(numbers, IS_MULTIPLE_OF_THREE, 1);
+
+        assertEquals(3336, sequentialBitmap.cardinality());
+        assertEquals(3336, parallelBitmap.cardinality());
+        for (int i = 0; i < numbers.size(); i++) {
+            assertEquals(IS_MULTIPLE_OF_THREE.test(i), sequentialBitmap.get(i));
+            assertEquals(IS_MULTIPLE_OF_THREE.test(i), parallelBitmap.get(i));
+        }
+    }
+
+    @Test
+    public void lookUpInOrder_itemsInOrder_looksUpResults() {
+        List<Integer> numbers = IntStream.range(0, 200).boxed().collect(Collectors.toList());
+        MatchBitmap bitmap = MatchBitmap.of(numbers, IS_MULTIPLE_OF_THREE, 1);
+        int[] fallbackTests = new int[1];
+        Predicate<Integer> lookUp = bitmap.lookUpInOrder(numbers, number -> {
+            fallbackTests[0]++;
+            return IS_MULTIPLE_OF_THREE.test(number);
+        });
+
+        // a filtered list tests its items in order when its predicate is set
+        assertEquals(67, numbers.stream().filter(lookUp).count());
+        assertEquals(0, fallbackTests[0]);
+
+        // items tested later, such as added ones, are tested directly
+        assertTrue(lookUp.test(300));
+        assertFalse(lookUp.test(numbers.get(1)));
+        assertEquals(2, fallbackTests[0]);
+    }
+}
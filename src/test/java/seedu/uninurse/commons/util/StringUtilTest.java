@@ -1,10 +1,12 @@
 package seedu.uninurse.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.uninurse.testutil.Assert.assertThrows;
 
 import java.io.FileNotFoundException;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -123,6 +125,26 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for toSearchKey and containsAnySearchKey --------------------------------------
+
+    @Test
+    public void toSearchKey_nullText_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.toSearchKey(null));
+    }
+
+    @Test
+    public void containsAnySearchKey_searchKeys_sameAsContainsIgnoreCase() {
+        List<String> keywords = List.of("  BbB ", "xyz");
+        List<String> searchKeywords = StringUtil.toSearchKeys(keywords);
+        assertEquals(List.of("bbb", "xyz"), searchKeywords);
+
+        for (String sentence : List.of("aaa bBb ccc", "  AAA   ccc  ", "", "XYZ")) {
+            assertEquals(keywords.stream().anyMatch(keyword -> StringUtil.containsIgnoreCase(sentence, keyword)),
+                    StringUtil.containsAnySearchKey(StringUtil.toSearchKey(sentence), searchKeywords));
+        }
+        assertFalse(StringUtil.containsAnySearchKey("aaa", List.of()));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -12,6 +12,11 @@ import static seedu.uninurse.testutil.TypicalPatients.AMY;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Semaphore;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -27,6 +32,9 @@ import seedu.uninurse.model.ModelManager;
 import seedu.uninurse.model.ReadOnlyUninurseBook;
 import seedu.uninurse.model.UserPrefs;
 import seedu.uninurse.model.person.Patient;
+import seedu.uninurse.model.task.DateTime;
+import seedu.uninurse.model.task.Recurrence;
+import seedu.uninurse.model.task.RecurringTask;
 import seedu.uninurse.storage.JsonUninurseBookStorage;
 import seedu.uninurse.storage.JsonUserPrefsStorage;
 import seedu.uninurse.storage.StorageManager;
@@ -34,6 +42,7 @@ import seedu.uninurse.testutil.PatientBuilder;
 
 public class LogicManagerTest {
     private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy exception");
+    private static final long SAVE_DELAY_MILLIS = 60_000;
 
     @TempDir
     public Path temporaryFolder;
@@ -69,23 +78,90 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() {
-        // Setup LogicManager with JsonUninurseBookIoExceptionThrowingStub
-        JsonUninurseBookStorage uninurseBookStorage =
-                new JsonUninurseBookIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionUninurseBook.json"));
-        JsonUserPrefsStorage userPrefsStorage =
-                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
-        StorageManager storage = new StorageManager(uninurseBookStorage, userPrefsStorage);
-        logic = new LogicManager(model, storage);
+    public void execute_storageThrowsIoException_failureReportedWithoutFailingCommand() throws Exception {
+        // Setup LogicManager with JsonUninurseBookIoExceptionThrowingStub, which saves without delay
+        Semaphore saveAttempts = new Semaphore(0);
+        JsonUninurseBookStorage uninurseBookStorage = new JsonUninurseBookIoExceptionThrowingStub(
+                temporaryFolder.resolve("ioExceptionUninurseBook.json"), saveAttempts);
+        logic = new LogicManager(model, createStorageManager(uninurseBookStorage), 0);
+        List<Optional<IOException>> saveResults = new CopyOnWriteArrayList<>();
+        logic.setSaveResultHandler(saveResults::add);
 
-        // Execute add command
+        // Execute add command, which is saved in the background
         String addCommand = AddPatientCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
                 + ADDRESS_DESC_AMY;
         Patient expectedPatient = new PatientBuilder(AMY).withTags().build();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addPatient(expectedPatient);
-        String expectedMessage = LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION;
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        assertCommandSuccess(addCommand, String.format(AddPatientCommand.MESSAGE_SUCCESS, expectedPatient),
+                expectedModel);
+        saveAttempts.acquire();
+        logic.flush(); // Waits for the background save to finish
+        assertEquals(List.of(Optional.of(DUMMY_IO_EXCEPTION)), saveResults);
+
+        // The next command succeeds and saves the uninurse book again
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, expectedModel);
+        saveAttempts.acquire();
+        logic.flush();
+        assertEquals(List.of(Optional.of(DUMMY_IO_EXCEPTION), Optional.of(DUMMY_IO_EXCEPTION)), saveResults);
+    }
+
+    @Test
+    public void flush_storageThrowsIoException_throwsIoException() throws Exception {
+        JsonUninurseBookStorage uninurseBookStorage = new JsonUninurseBookIoExceptionThrowingStub(
+                temporaryFolder.resolve("ioExceptionUninurseBook.json"), new Semaphore(0));
+        logic = new LogicManager(model, createStorageManager(uninurseBookStorage), SAVE_DELAY_MILLIS);
+
+        logic.execute(AddPatientCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY);
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), logic::flush);
+    }
+
+    @Test
+    public void execute_readOnlyCommand_notSavedAgain() throws Exception {
+        SaveCountingUninurseBookStorage uninurseBookStorage =
+                new SaveCountingUninurseBookStorage(temporaryFolder.resolve("uninurseBook.json"));
+        logic = new LogicManager(model, createStorageManager(uninurseBookStorage), SAVE_DELAY_MILLIS);
+
+        logic.execute(AddPatientCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY);
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.flush();
+        assertEquals(1, uninurseBookStorage.saveCount);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.flush();
+        assertEquals(1, uninurseBookStorage.saveCount);
+    }
+
+    @Test
+    public void execute_readOnlyCommandAfterStart_notSaved() throws Exception {
+        SaveCountingUninurseBookStorage uninurseBookStorage =
+                new SaveCountingUninurseBookStorage(temporaryFolder.resolve("uninurseBook.json"));
+        logic = new LogicManager(model, createStorageManager(uninurseBookStorage), SAVE_DELAY_MILLIS);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.flush();
+        assertEquals(0, uninurseBookStorage.saveCount);
+    }
+
+    @Test
+    public void execute_tasksRolledOver_saved() throws Exception {
+        DateTime yesterday = new DateTime(LocalDate.now().minusDays(1).atStartOfDay());
+        model.addPatient(new PatientBuilder().withTasks(new RecurringTask("Daily", yesterday, Recurrence.DAY, 1))
+                .build());
+        SaveCountingUninurseBookStorage uninurseBookStorage =
+                new SaveCountingUninurseBookStorage(temporaryFolder.resolve("uninurseBook.json"));
+        logic = new LogicManager(model, createStorageManager(uninurseBookStorage), SAVE_DELAY_MILLIS);
+
+        // the only change of the command is the rollover of the task
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.flush();
+        assertEquals(1, uninurseBookStorage.saveCount);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.flush();
+        assertEquals(1, uninurseBookStorage.saveCount);
     }
 
     @Test
@@ -146,17 +222,42 @@ public class LogicManagerTest {
         assertEquals(expectedModel, model);
     }
 
+    private StorageManager createStorageManager(JsonUninurseBookStorage uninurseBookStorage) {
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        return new StorageManager(uninurseBookStorage, userPrefsStorage);
+    }
+
     /**
      * A stub class to throw an {@code IOException} when the save method is called.
      */
     private static class JsonUninurseBookIoExceptionThrowingStub extends JsonUninurseBookStorage {
-        private JsonUninurseBookIoExceptionThrowingStub(Path filePath) {
+        private final Semaphore saveAttempts;
+
+        private JsonUninurseBookIoExceptionThrowingStub(Path filePath, Semaphore saveAttempts) {
             super(filePath);
+            this.saveAttempts = saveAttempts;
         }
 
         @Override
         public void saveUninurseBook(ReadOnlyUninurseBook uninurseBook, Path filePath) throws IOException {
+            saveAttempts.release();
             throw DUMMY_IO_EXCEPTION;
         }
     }
+
+    /**
+     * A stub class that counts the number of times the save method is called.
+     */
+    private static class SaveCountingUninurseBookStorage extends JsonUninurseBookStorage {
+        private int saveCount = 0;
+
+        private SaveCountingUninurseBookStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveUninurseBook(ReadOnlyUninurseBook uninurseBook, Path filePath) throws IOException {
+            saveCount++;
+        }
+    }
 }
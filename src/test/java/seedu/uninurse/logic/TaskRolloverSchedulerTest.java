@@ -0,0 +1,111 @@
+package seedu.uninurse.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.uninurse.model.Model;
+import seedu.uninurse.model.ModelManager;
+import seedu.uninurse.model.ReadOnlyUninurseBook;
+import seedu.uninurse.model.person.Patient;
+import seedu.uninurse.model.task.DateTime;
+import seedu.uninurse.model.task.Recurrence;
+import seedu.uninurse.model.task.RecurringTask;
+import seedu.uninurse.storage.JsonUninurseBookStorage;
+import seedu.uninurse.storage.JsonUserPrefsStorage;
+import seedu.uninurse.storage.StorageManager;
+import seedu.uninurse.testutil.PatientBuilder;
+
+public class TaskRolloverSchedulerTest {
+    private static final DateTime YESTERDAY = new DateTime(LocalDate.now().minusDays(1).atStartOfDay());
+
+    private static final long SAVE_DELAY_MILLIS = 60_000;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager();
+    // Run by the test thread, which stands in for the UI thread the model is confined to
+    private final BlockingQueue<Runnable> uiTasks = new LinkedBlockingQueue<>();
+    private Logic logic;
+    private TaskRolloverScheduler scheduler;
+
+    @BeforeEach
+    public void setUp() {
+        JsonUninurseBookStorage uninurseBookStorage =
+                new JsonUninurseBookStorage(temporaryFolder.resolve("uninurseBook.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(uninurseBookStorage, userPrefsStorage),
+                SAVE_DELAY_MILLIS);
+        scheduler = new TaskRolloverScheduler(model, logic, uiTasks::add);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        scheduler.stop();
+    }
+
+    @Test
+    public void start_passedRecurringTask_rolledOver() {
+        Patient patient = new PatientBuilder()
+                .withTasks(new RecurringTask("Daily", YESTERDAY, Recurrence.DAY, 1)).build();
+        model.addPatient(patient);
+
+        scheduler.start();
+
+        assertFalse(model.getPatientList().get(0).getTasks().get(0).passedTaskDate());
+    }
+
+    @Test
+    public void addPatient_passedRecurringTask_rolledOverInBackground() throws Exception {
+        scheduler.start();
+        Patient patient = new PatientBuilder()
+                .withTasks(new RecurringTask("Daily", YESTERDAY, Recurrence.DAY, 1)).build();
+        model.addPatient(patient);
+
+        Runnable rollover = uiTasks.poll(5, TimeUnit.SECONDS);
+        assertNotNull(rollover);
+        rollover.run();
+        assertFalse(model.getPatientList().get(0).getTasks().get(0).passedTaskDate());
+    }
+
+    @Test
+    public void addPatient_nextRolloverUnchanged_stillRolledOver() throws Exception {
+        scheduler.start();
+        Patient patient = new PatientBuilder()
+                .withTasks(new RecurringTask("Daily", YESTERDAY, Recurrence.DAY, 1)).build();
+        model.addPatient(patient);
+        // the patient without recurring tasks leaves the pending rollover as it is
+        model.addPatient(new PatientBuilder().withName("Other").build());
+
+        Runnable rollover = uiTasks.poll(5, TimeUnit.SECONDS);
+        assertNotNull(rollover);
+        rollover.run();
+        assertFalse(model.getPatientList().get(0).getTasks().get(0).passedTaskDate());
+    }
+
+    @Test
+    public void start_passedRecurringTask_rolledOverTaskSaved() throws Exception {
+        Patient patient = new PatientBuilder()
+                .withTasks(new RecurringTask("Daily", YESTERDAY, Recurrence.DAY, 1)).build();
+        model.addPatient(patient);
+
+        scheduler.start();
+        logic.flush();
+
+        ReadOnlyUninurseBook savedUninurseBook = new JsonUninurseBookStorage(
+                temporaryFolder.resolve("uninurseBook.json")).readUninurseBook().get();
+        assertEquals(model.getPatientList(), savedUninurseBook.getPatientList());
+    }
+}
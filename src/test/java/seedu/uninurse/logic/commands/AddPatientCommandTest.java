@@ -9,7 +9,10 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 
@@ -18,13 +21,19 @@ import seedu.uninurse.commons.core.GuiSettings;
 import seedu.uninurse.commons.core.Messages;
 import seedu.uninurse.logic.commands.exceptions.DuplicateEntryException;
 import seedu.uninurse.model.Model;
+import seedu.uninurse.model.ModelClock;
+import seedu.uninurse.model.PatientTask;
 import seedu.uninurse.model.PersonListTracker;
 import seedu.uninurse.model.ReadOnlyUninurseBook;
 import seedu.uninurse.model.ReadOnlyUserPrefs;
 import seedu.uninurse.model.Schedule;
+import seedu.uninurse.model.UndoHistoryStats;
 import seedu.uninurse.model.UninurseBook;
+import seedu.uninurse.model.UninurseBookSnapshot;
 import seedu.uninurse.model.person.Patient;
+import seedu.uninurse.model.person.PatientMatchPredicate;
 import seedu.uninurse.model.person.Person;
+import seedu.uninurse.model.task.DateTime;
 import seedu.uninurse.testutil.PatientBuilder;
 
 public class AddPatientCommandTest {
@@ -118,6 +127,11 @@ public class AddPatientCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public UninurseBookSnapshot getUninurseBookSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setUninurseBook(ReadOnlyUninurseBook uninurseBook) {
             throw new AssertionError("This method should not be called.");
@@ -148,6 +162,11 @@ public class AddPatientCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public PersonListTracker setPatients(List<Patient> patients, List<Patient> editedPatients) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public PersonListTracker deletePerson(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -173,6 +192,16 @@ public class AddPatientCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredPatientList(PatientMatchPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredPatientListForToday() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public Patient getPatient(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -183,6 +212,21 @@ public class AddPatientCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<PatientTask> getTasksOnDay(DateTime day) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Patient> getPatientsOnDay(DateTime day) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Stream<PatientTask> getTasksBetween(DateTime from, DateTime to) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setPatientOfInterest(Patient patient) {
             throw new AssertionError("This method should not be called.");
@@ -218,6 +262,16 @@ public class AddPatientCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Optional<DateTime> getNextRolloverDateTime() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ModelClock.CapturedNow captureNow() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void refreshList() {
             throw new AssertionError("This method should not be called.");
@@ -247,6 +301,11 @@ public class AddPatientCommandTest {
         public void makeSnapshot(CommandResult commandResult) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public UndoHistoryStats getUndoHistoryStats() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
@@ -0,0 +1,106 @@
+package seedu.uninurse.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.uninurse.logic.commands.CommandTestUtil.VALID_TASK_DATE_TIME_FIRST;
+import static seedu.uninurse.logic.commands.CommandTestUtil.VALID_TASK_DESC_FIRST;
+import static seedu.uninurse.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.uninurse.logic.commands.CommandTestUtil.showPersonAtIndex;
+import static seedu.uninurse.testutil.Assert.assertThrows;
+import static seedu.uninurse.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.uninurse.testutil.TypicalPatients.getTypicalUninurseBook;
+import static seedu.uninurse.testutil.TypicalTasks.TASK_HEALTH_RECORDS;
+import static seedu.uninurse.testutil.TypicalTasks.TASK_INSULIN;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.uninurse.logic.commands.exceptions.CommandException;
+import seedu.uninurse.model.Model;
+import seedu.uninurse.model.ModelManager;
+import seedu.uninurse.model.UninurseBook;
+import seedu.uninurse.model.UserPrefs;
+import seedu.uninurse.model.person.Patient;
+import seedu.uninurse.model.task.DateTime;
+import seedu.uninurse.model.task.NonRecurringTask;
+import seedu.uninurse.model.task.Task;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for {@code AddTaskToAllCommand}.
+ */
+public class AddTaskToAllCommandTest {
+    private static final Task TASK =
+            new NonRecurringTask(VALID_TASK_DESC_FIRST, new DateTime(VALID_TASK_DATE_TIME_FIRST));
+
+    private final Model model = new ModelManager(getTypicalUninurseBook(), new UserPrefs());
+
+    @Test
+    public void constructor_nullTask_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AddTaskToAllCommand(null));
+    }
+
+    @Test
+    public void execute_unfilteredList_addsTaskToEveryPatient() throws Exception {
+        List<Patient> patients = new ArrayList<>(model.getPatientList());
+
+        CommandResult commandResult = new AddTaskToAllCommand(TASK).execute(model);
+
+        assertEquals(String.format(AddTaskToAllCommand.MESSAGE_SUCCESS, patients.size(), TASK),
+                commandResult.getFeedbackToUser());
+        assertEquals(patients.size(), model.getPatientList().size());
+        for (Patient patient : model.getPatientList()) {
+            assertTrue(patient.getTasks().contains(TASK));
+        }
+        assertEquals(patients, commandResult.getPersonListTracker().get().getDeletedPersons().get());
+    }
+
+    @Test
+    public void execute_filteredList_addsTaskToDisplayedPatientOnly() throws Exception {
+        showPersonAtIndex(model, INDEX_FIRST_PERSON);
+        Patient patientToEdit = model.getPatient(model.getFilteredPersonList().get(0));
+        Model expectedModel = new ModelManager(new UninurseBook(model.getUninurseBook()), new UserPrefs());
+        expectedModel.setPatient(patientToEdit, new Patient(patientToEdit, patientToEdit.getTasks().add(TASK)));
+
+        new AddTaskToAllCommand(TASK).execute(model);
+
+        assertEquals(expectedModel.getUninurseBook(), model.getUninurseBook());
+    }
+
+    @Test
+    public void execute_taskAlreadyAdded_throwsCommandException() throws Exception {
+        new AddTaskToAllCommand(TASK).execute(model);
+        assertCommandFailure(new AddTaskToAllCommand(TASK), model, AddTaskToAllCommand.MESSAGE_ALL_DUPLICATE);
+    }
+
+    @Test
+    public void execute_emptyList_throwsCommandException() {
+        model.updateFilteredPersonList(person -> false);
+        assertThrows(CommandException.class, AddTaskToAllCommand.MESSAGE_NO_PATIENTS, () ->
+                new AddTaskToAllCommand(TASK).execute(model));
+    }
+
+    @Test
+    public void undo_addedToEveryPatient_restoresEveryPatientAtOnce() throws Exception {
+        UninurseBook originalBook = new UninurseBook(model.getUninurseBook());
+
+        CommandResult commandResult = new AddTaskToAllCommand(TASK).execute(model);
+        model.makeSnapshot(commandResult);
+        model.undo();
+
+        assertEquals(originalBook, model.getUninurseBook());
+    }
+
+    @Test
+    public void equals() {
+        AddTaskToAllCommand addInsulinCommand = new AddTaskToAllCommand(TASK_INSULIN);
+
+        assertEquals(addInsulinCommand, addInsulinCommand);
+        assertEquals(addInsulinCommand, new AddTaskToAllCommand(TASK_INSULIN));
+        assertNotEquals(addInsulinCommand, 1);
+        assertNotEquals(addInsulinCommand, null);
+        assertNotEquals(addInsulinCommand, new AddTaskToAllCommand(TASK_HEALTH_RECORDS));
+    }
+}
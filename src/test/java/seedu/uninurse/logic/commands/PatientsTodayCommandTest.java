@@ -1,9 +1,12 @@
 package seedu.uninurse.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.uninurse.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.uninurse.testutil.TestUtil.getCurrentDate;
 import static seedu.uninurse.testutil.TypicalPatients.getTypicalUninurseBook;
 
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -39,8 +42,36 @@ class PatientsTodayCommandTest {
 
         CommandResult addCommand = new AddPatientCommand(patientForToday).execute(model);
         CommandResult addCommand2 = new AddPatientCommand(patientForToday).execute(expectedModel);
-        expectedModel.updateFilteredPatientList(Model.PREDICATE_SHOW_PATIENTS_FOR_TODAY);
+        expectedModel.updateFilteredPatientListForToday();
         assertCommandSuccess(new PatientsTodayCommand(), model, PatientsTodayCommand.MESSAGE_SUCCESS,
                 PatientsTodayCommand.COMMAND_TYPE, expectedModel);
     }
+
+    @Test
+    public void execute_patientTodayReplaced_showsReplacement() throws Exception {
+        Patient patientForToday = new PatientBuilder()
+                .withTasks(new NonRecurringTask("test", new DateTime(getCurrentDate()))).build();
+        new AddPatientCommand(patientForToday).execute(model);
+        new PatientsTodayCommand().execute(model);
+
+        Patient replacement = new PatientBuilder(patientForToday).build();
+        model.setPatient(patientForToday, replacement);
+        model.refreshList();
+
+        assertEquals(List.of(replacement), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_parallelThresholdReached_showsPatientsToday() throws Exception {
+        UserPrefs parallelUserPrefs = new UserPrefs();
+        parallelUserPrefs.setParallelFindThreshold(1);
+        Model parallelModel = new ModelManager(getTypicalUninurseBook(), parallelUserPrefs);
+        Patient patientForToday = new PatientBuilder()
+                .withTasks(new NonRecurringTask("test", new DateTime(getCurrentDate()))).build();
+        new AddPatientCommand(patientForToday).execute(parallelModel);
+
+        new PatientsTodayCommand().execute(parallelModel);
+
+        assertEquals(List.of(patientForToday), parallelModel.getFilteredPersonList());
+    }
 }
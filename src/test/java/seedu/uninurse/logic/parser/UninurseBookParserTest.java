@@ -14,6 +14,7 @@ import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 
 import seedu.uninurse.logic.commands.AddPatientCommand;
+import seedu.uninurse.logic.commands.AddTaskToAllCommand;
 import seedu.uninurse.logic.commands.ClearCommand;
 import seedu.uninurse.logic.commands.DeletePatientCommand;
 import seedu.uninurse.logic.commands.EditPatientCommand;
@@ -25,6 +26,8 @@ import seedu.uninurse.logic.commands.ListCommand;
 import seedu.uninurse.logic.parser.exceptions.ParseException;
 import seedu.uninurse.model.person.Patient;
 import seedu.uninurse.model.person.PatientMatchPredicate;
+import seedu.uninurse.model.task.DateTime;
+import seedu.uninurse.model.task.NonRecurringTask;
 import seedu.uninurse.testutil.EditPatientDescriptorBuilder;
 import seedu.uninurse.testutil.PatientBuilder;
 import seedu.uninurse.testutil.PersonUtil;
@@ -42,6 +45,14 @@ public class UninurseBookParserTest {
         assertEquals(new AddPatientCommand(person), command);
     }
 
+    @Test
+    public void parseCommand_addTaskToAll() throws Exception {
+        AddTaskToAllCommand command = (AddTaskToAllCommand) parser.parseCommand(
+                AddTaskToAllCommand.COMMAND_WORD + " -p --all d/Check vitals | 16-10-22 1015");
+        assertEquals(new AddTaskToAllCommand(new NonRecurringTask("Check vitals", new DateTime("16-10-22 1015"))),
+                command);
+    }
+
     @Test
     public void parseCommand_clear() throws Exception {
         assertTrue(parser.parseCommand(ClearCommand.COMMAND_WORD) instanceof ClearCommand);
@@ -0,0 +1,77 @@
+package seedu.uninurse.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.uninurse.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class CircularVersionStoreTest {
+
+    private final CircularVersionStore<String> versionStore = new CircularVersionStore<>(3);
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new CircularVersionStore<String>(0));
+    }
+
+    @Test
+    public void constructor_empty() {
+        assertTrue(versionStore.isEmpty());
+        assertEquals(3, versionStore.capacity());
+    }
+
+    @Test
+    public void get_invalidIndex_throwsIndexOutOfBoundsException() {
+        versionStore.add("a");
+        assertThrows(IndexOutOfBoundsException.class, () -> versionStore.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> versionStore.get(-1));
+    }
+
+    @Test
+    public void add_fullStore_evictsOldestVersion() {
+        versionStore.add("a");
+        versionStore.add("b");
+        versionStore.add("c");
+        versionStore.add("d");
+        assertEquals(3, versionStore.size());
+        assertEquals("b", versionStore.get(0));
+        assertEquals("d", versionStore.get(2));
+    }
+
+    @Test
+    public void truncate_wrappedStore_discardsNewestVersions() {
+        versionStore.add("a");
+        versionStore.add("b");
+        versionStore.add("c");
+        versionStore.add("d");
+        versionStore.truncate(1);
+        assertEquals(1, versionStore.size());
+        assertEquals("b", versionStore.get(0));
+
+        versionStore.add("e");
+        assertEquals("e", versionStore.get(1));
+    }
+
+    @Test
+    public void add_afterTruncate_overwritesDiscardedVersions() {
+        versionStore.add("a");
+        versionStore.add("b");
+        versionStore.add("c");
+        versionStore.truncate(1);
+
+        versionStore.add("d");
+        versionStore.add("e");
+        versionStore.add("f");
+        assertEquals(3, versionStore.size());
+        assertEquals("d", versionStore.get(0));
+        assertEquals("e", versionStore.get(1));
+        assertEquals("f", versionStore.get(2));
+    }
+
+    @Test
+    public void truncate_invalidIndex_throwsIndexOutOfBoundsException() {
+        versionStore.add("a");
+        assertThrows(IndexOutOfBoundsException.class, () -> versionStore.truncate(2));
+    }
+}
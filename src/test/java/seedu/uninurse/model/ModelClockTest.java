@@ -0,0 +1,78 @@
+package seedu.uninurse.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.uninurse.model.task.DateTime;
+
+public class ModelClockTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2022, 10, 25, 23, 59);
+    private static final LocalDateTime NEXT_DAY = LocalDateTime.of(2022, 10, 26, 0, 1);
+
+    @Test
+    public void captureNow_fixedClock_dateTimesUseClock() {
+        try (ModelClock.CapturedNow capturedNow = ModelClock.captureNow(fixedClock(NOW))) {
+            assertEquals(NOW, ModelClock.now());
+            assertTrue(new DateTime("25-10-22 0900").isToday());
+            assertTrue(new DateTime("25-10-22 2358").isPastDate());
+            assertFalse(new DateTime("26-10-22 0000").isPastDate());
+            assertEquals(1, new DateTime("26-10-22 0000").getDaysFromToday());
+            assertEquals(new DateTime("26-10-22 2359"), new DateTime());
+        }
+
+        // the system clock is read again once the time is released
+        assertFalse(new DateTime("25-10-22 0900").isToday());
+    }
+
+    @Test
+    public void captureNow_capturedAgain_keepsCapturedTime() {
+        DateTime dateTime = new DateTime("25-10-22 1200");
+
+        try (ModelClock.CapturedNow capturedNow = ModelClock.captureNow(fixedClock(NOW))) {
+            // capturing again keeps the time that was captured first
+            try (ModelClock.CapturedNow nestedCapturedNow = ModelClock.captureNow(fixedClock(NEXT_DAY))) {
+                assertEquals(NOW, ModelClock.now());
+                assertTrue(dateTime.isToday());
+            }
+            assertEquals(NOW, ModelClock.now());
+        }
+
+        try (ModelClock.CapturedNow capturedNow = ModelClock.captureNow(fixedClock(NEXT_DAY))) {
+            assertEquals(NEXT_DAY, ModelClock.now());
+            assertFalse(dateTime.isToday());
+        }
+    }
+
+    @Test
+    public void withCurrentNow_otherThread_usesTimeOfCaller() throws Exception {
+        DateTime dateTime = new DateTime("25-10-22 1200");
+
+        try (ModelClock.CapturedNow capturedNow = ModelClock.captureNow(fixedClock(NOW))) {
+            Predicate<DateTime> isToday = ModelClock.withCurrentNow(DateTime::isToday);
+
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            try {
+                assertTrue(executor.submit(() -> isToday.test(dateTime)).get());
+                // the time is only shared while the predicate is tested
+                assertFalse(executor.submit(dateTime::isToday).get());
+            } finally {
+                executor.shutdown();
+            }
+            assertTrue(isToday.test(dateTime));
+        }
+    }
+
+    private static Clock fixedClock(LocalDateTime dateTime) {
+        return Clock.fixed(dateTime.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+    }
+}
@@ -5,18 +5,35 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.uninurse.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+import static seedu.uninurse.model.Model.PREDICATE_SHOW_PATIENTS_TASK;
 import static seedu.uninurse.testutil.Assert.assertThrows;
 import static seedu.uninurse.testutil.TypicalPatients.ALICE;
 import static seedu.uninurse.testutil.TypicalPatients.BENSON;
+import static seedu.uninurse.testutil.TypicalPatients.CARL;
+import static seedu.uninurse.testutil.TypicalPatients.getTypicalUninurseBook;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.uninurse.commons.core.GuiSettings;
+import seedu.uninurse.commons.util.StatelessPredicate;
+import seedu.uninurse.model.person.Patient;
 import seedu.uninurse.model.person.PatientContainsKeywordsPredicate;
+import seedu.uninurse.model.person.Person;
+import seedu.uninurse.testutil.PatientBuilder;
 import seedu.uninurse.testutil.UninurseBookBuilder;
 
 public class ModelManagerTest {
@@ -94,6 +111,136 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void updateFilteredPatientList_parallelThresholdReached_sameAsSequential() {
+        UninurseBook uninurseBook = getTypicalUninurseBook();
+        UserPrefs parallelUserPrefs = new UserPrefs();
+        parallelUserPrefs.setParallelFindThreshold(1);
+        ModelManager sequentialModelManager = new ModelManager(uninurseBook, new UserPrefs());
+        ModelManager parallelModelManager = new ModelManager(uninurseBook, parallelUserPrefs);
+
+        sequentialModelManager.updateFilteredPatientList(PREDICATE_SHOW_PATIENTS_TASK);
+        parallelModelManager.updateFilteredPatientList(PREDICATE_SHOW_PATIENTS_TASK);
+        assertEquals(List.of(BENSON, CARL), parallelModelManager.getFilteredPersonList());
+        assertEquals(sequentialModelManager.getFilteredPersonList(), parallelModelManager.getFilteredPersonList());
+
+        // persons added after the parallel filter are tested directly
+        parallelModelManager.addPatient(new PatientBuilder().withName("Zed").build());
+        assertEquals(List.of(BENSON, CARL), parallelModelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPatientList_predicateNotStateless_testedByCaller() {
+        UserPrefs parallelUserPrefs = new UserPrefs();
+        parallelUserPrefs.setParallelFindThreshold(1);
+        ModelManager parallelModelManager = new ModelManager(getTypicalUninurseBook(), parallelUserPrefs);
+        Set<Thread> testingThreads = new HashSet<>();
+
+        parallelModelManager.updateFilteredPatientList(patient -> {
+            testingThreads.add(Thread.currentThread());
+            return true;
+        });
+
+        assertEquals(Set.of(Thread.currentThread()), testingThreads);
+        assertEquals(getTypicalUninurseBook().getPersonList(), parallelModelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPatientList_dateBasedPredicate_parallelAgreesWithClockOfModel() {
+        Clock clock = Clock.fixed(LocalDateTime.of(2022, 10, 28, 23, 59).toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        UninurseBook uninurseBook = getTypicalUninurseBook();
+        UserPrefs parallelUserPrefs = new UserPrefs();
+        parallelUserPrefs.setParallelFindThreshold(1);
+        ModelManager sequentialModelManager = new ModelManager(uninurseBook, new UserPrefs(), clock);
+        ModelManager parallelModelManager = new ModelManager(uninurseBook, parallelUserPrefs, clock);
+        StatelessPredicate<Patient> hasTaskToday = patient -> patient.getTasks().containsTaskToday();
+
+        // the workers testing in parallel do not read the system clock
+        sequentialModelManager.updateFilteredPatientList(hasTaskToday);
+        parallelModelManager.updateFilteredPatientList(hasTaskToday);
+        assertEquals(List.of(CARL), sequentialModelManager.getFilteredPersonList());
+        assertEquals(List.of(CARL), parallelModelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void refreshList_timePasses_retestsOnlyPatientsWithTasksThatChanged() {
+        Instant[] now = {LocalDateTime.of(2022, 10, 28, 17, 0).toInstant(ZoneOffset.UTC)};
+        Clock clock = new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public Instant instant() {
+                return now[0];
+            }
+        };
+        modelManager = new ModelManager(getTypicalUninurseBook(), new UserPrefs(), clock);
+        List<Person> testedPersons = new ArrayList<>();
+        modelManager.updateFilteredPersonList(person -> testedPersons.add(person));
+        testedPersons.clear();
+
+        modelManager.refreshList();
+        assertTrue(testedPersons.isEmpty());
+
+        // the task of carl at 1730 has passed
+        now[0] = LocalDateTime.of(2022, 10, 28, 18, 0).toInstant(ZoneOffset.UTC);
+        modelManager.refreshList();
+        assertEquals(List.of(CARL), testedPersons);
+
+        // the task of carl is no longer today
+        testedPersons.clear();
+        now[0] = LocalDateTime.of(2022, 10, 29, 0, 1).toInstant(ZoneOffset.UTC);
+        modelManager.refreshList();
+        assertEquals(List.of(CARL), testedPersons);
+    }
+
+    @Test
+    public void refreshList_dayChanges_patientsForTodayFollowDay() {
+        Instant[] now = {LocalDateTime.of(2022, 10, 28, 17, 0).toInstant(ZoneOffset.UTC)};
+        Clock clock = new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public Instant instant() {
+                return now[0];
+            }
+        };
+        modelManager = new ModelManager(getTypicalUninurseBook(), new UserPrefs(), clock);
+        modelManager.updateFilteredPatientListForToday();
+        assertEquals(List.of(CARL), modelManager.getFilteredPersonList());
+
+        // no patient has tasks on the next day
+        now[0] = LocalDateTime.of(2022, 10, 29, 0, 1).toInstant(ZoneOffset.UTC);
+        modelManager.refreshList();
+        assertEquals(List.of(), modelManager.getFilteredPersonList());
+
+        // the task of benson is due on this day
+        now[0] = LocalDateTime.of(2022, 12, 16, 9, 0).toInstant(ZoneOffset.UTC);
+        modelManager.refreshList();
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonList());
+
+        // another filter stops following the day
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        now[0] = LocalDateTime.of(2022, 12, 17, 9, 0).toInstant(ZoneOffset.UTC);
+        modelManager.refreshList();
+        assertEquals(getTypicalUninurseBook().getPersonList(), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void equals() {
         UninurseBook uninurseBook = new UninurseBookBuilder().withPatient(ALICE).withPatient(BENSON).build();
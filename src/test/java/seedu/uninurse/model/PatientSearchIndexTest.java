@@ -0,0 +1,127 @@
+package seedu.uninurse.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.uninurse.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.uninurse.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.uninurse.logic.parser.CliSyntax.PREFIX_TASK_DESCRIPTION;
+import static seedu.uninurse.testutil.TypicalPatients.BENSON;
+import static seedu.uninurse.testutil.TypicalPatients.getTypicalPatients;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.uninurse.logic.parser.ArgumentTokenizer;
+import seedu.uninurse.model.person.Patient;
+import seedu.uninurse.model.person.PatientMatchPredicate;
+import seedu.uninurse.model.person.Person;
+import seedu.uninurse.testutil.PatientBuilder;
+
+public class PatientSearchIndexTest {
+    private static final int NO_PARALLELISM = Integer.MAX_VALUE;
+
+    private final ObservableList<Patient> patients = FXCollections.observableArrayList();
+    private final PatientSearchIndex index = new PatientSearchIndex();
+
+    public PatientSearchIndexTest() {
+        patients.addListener(index::applyChange);
+        patients.setAll(getTypicalPatients());
+    }
+
+    @Test
+    public void find_keywords_matchesPredicate() {
+        assertSameMatches(List.of("meier"));
+        assertSameMatches(List.of("MEIER", "kurz"));
+        assertSameMatches(List.of("ie"));
+        assertSameMatches(List.of(""));
+        assertSameMatches(List.of("  Pauline  "));
+        assertSameMatches(List.of("catheter"));
+        assertSameMatches(List.of("16-12-22"));
+        assertSameMatches(List.of("nobody matches this"));
+    }
+
+    @Test
+    public void find_prefixedKeywords_matchesPredicate() {
+        assertSameMatches(List.of(""), " " + PREFIX_NAME + "meier " + PREFIX_TAG + "friends");
+        assertSameMatches(List.of("meier"), " " + PREFIX_NAME + "Benson");
+        assertSameMatches(List.of(""), " " + PREFIX_TASK_DESCRIPTION + "health records");
+        assertSameMatches(List.of(""), " " + PREFIX_NAME + "Alice Pauline " + PREFIX_NAME + "Ku");
+    }
+
+    @Test
+    public void find_editedPatient_findsEditedDetails() {
+        Patient editedBenson = new PatientBuilder(BENSON).withName("Benson Tanaka").build();
+        patients.set(patients.indexOf(BENSON), editedBenson);
+
+        assertEquals(Set.of(editedBenson), index.find(predicate(List.of("tanaka"), "").getClauses(), NO_PARALLELISM));
+        assertSameMatches(List.of("benson"));
+    }
+
+    @Test
+    public void matcher_patientEditedAfterFind_matchesEditedPatient() {
+        PatientMatchPredicate predicate = predicate(List.of("meier"), "");
+        Predicate<Person> matcher = index.matcher(predicate.getClauses(), NO_PARALLELISM);
+        assertTrue(matcher.test(BENSON));
+
+        Patient editedBenson = new PatientBuilder(BENSON).withName("Benson Tanaka").build();
+        assertFalse(matcher.test(editedBenson));
+        patients.set(patients.indexOf(BENSON), editedBenson);
+
+        assertFalse(matcher.test(editedBenson));
+        assertEquals(patients.stream().filter(predicate).collect(Collectors.toList()),
+                patients.stream().filter(matcher).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void matcher_patientsAddedAndRemovedAfterFind_matchesPatientsOfList() {
+        PatientMatchPredicate predicate = predicate(List.of("meier"), "");
+        Predicate<Person> matcher = index.matcher(predicate.getClauses(), NO_PARALLELISM);
+        assertTrue(matcher.test(BENSON));
+
+        Patient newMeier = new PatientBuilder().withName("Hans Meier").build();
+        patients.add(newMeier);
+        patients.remove(BENSON);
+        assertEquals(patients.stream().filter(predicate).collect(Collectors.toList()),
+                patients.stream().filter(matcher).collect(Collectors.toList()));
+        assertTrue(matcher.test(newMeier));
+
+        patients.add(BENSON);
+        patients.remove(newMeier);
+        assertEquals(patients.stream().filter(predicate).collect(Collectors.toList()),
+                patients.stream().filter(matcher).collect(Collectors.toList()));
+
+        // replacing every patient changes more patients than the index keeps track of
+        List<Patient> manyPatients = new ArrayList<>();
+        for (int i = 0; i < 1100; i++) {
+            manyPatients.add(new PatientBuilder().withName("Patient " + i).withPhone(String.valueOf(10000 + i))
+                    .build());
+        }
+        manyPatients.add(newMeier);
+        patients.setAll(manyPatients);
+        assertEquals(List.of(newMeier), patients.stream().filter(matcher).collect(Collectors.toList()));
+    }
+
+    private void assertSameMatches(List<String> keywords) {
+        assertSameMatches(keywords, "");
+    }
+
+    private void assertSameMatches(List<String> keywords, String args) {
+        PatientMatchPredicate predicate = predicate(keywords, args);
+        Set<Patient> expected = patients.stream().filter(predicate).collect(Collectors.toSet());
+        assertEquals(expected, index.find(predicate.getClauses(), NO_PARALLELISM));
+        assertEquals(expected, index.find(predicate.getClauses(), 1));
+    }
+
+    private static PatientMatchPredicate predicate(List<String> keywords, String args) {
+        return new PatientMatchPredicate(keywords, ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_TAG,
+                PREFIX_TASK_DESCRIPTION));
+    }
+}
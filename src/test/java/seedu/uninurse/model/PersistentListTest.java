@@ -0,0 +1,80 @@
+package seedu.uninurse.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.uninurse.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void of_list_containsSameElements() {
+        List<Integer> elements = Arrays.asList(1, 2, 3, 4, 5);
+        assertEquals(elements, PersistentList.of(elements).toList());
+        assertTrue(PersistentList.of(Collections.emptyList()).isEmpty());
+    }
+
+    @Test
+    public void get_invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentList<Integer> list = PersistentList.of(Arrays.asList(1, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+    }
+
+    @Test
+    public void updates_previousVersionUnchanged() {
+        PersistentList<Integer> original = PersistentList.of(Arrays.asList(1, 2, 3));
+        PersistentList<Integer> edited = original.set(1, 20).add(0, 0).remove(3);
+
+        assertEquals(Arrays.asList(1, 2, 3), original.toList());
+        assertEquals(Arrays.asList(0, 1, 20), edited.toList());
+    }
+
+    @Test
+    public void countNodesCreatedAfter_singleUpdate_countsOnlyCopiedPath() {
+        PersistentList<Integer> original = PersistentList.of(Arrays.asList(1, 2, 3, 4, 5, 6, 7));
+        long stamp = PersistentList.currentStamp();
+        assertEquals(0, original.countNodesCreatedAfter(stamp));
+
+        PersistentList<Integer> edited = original.set(6, 70);
+        assertEquals(3, edited.countNodesCreatedAfter(stamp));
+        assertEquals(7, edited.countNodesCreatedAfter(0));
+    }
+
+    @Test
+    public void updates_randomOperations_matchArrayList() {
+        Random random = new Random(2103);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+
+        for (int i = 0; i < 2000; i++) {
+            int operation = expected.isEmpty() ? 0 : random.nextInt(3);
+            if (operation == 0) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                actual = actual.add(index, i);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, i);
+                actual = actual.set(index, i);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.remove(index);
+            }
+        }
+
+        assertEquals(expected.size(), actual.size());
+        assertEquals(expected, actual.toList());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), actual.get(i));
+        }
+    }
+}
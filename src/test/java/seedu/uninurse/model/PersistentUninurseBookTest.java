@@ -0,0 +1,227 @@
+package seedu.uninurse.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.uninurse.testutil.Assert.assertThrows;
+import static seedu.uninurse.testutil.TypicalPatients.ALICE;
+import static seedu.uninurse.testutil.TypicalPatients.BENSON;
+import static seedu.uninurse.testutil.TypicalPatients.CARL;
+import static seedu.uninurse.testutil.TypicalPatients.GEORGE;
+import static seedu.uninurse.testutil.TypicalPatients.HOON;
+import static seedu.uninurse.testutil.TypicalPatients.getTypicalUninurseBook;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener.Change;
+import seedu.uninurse.commons.core.Config;
+import seedu.uninurse.logic.commands.CommandResult;
+import seedu.uninurse.logic.commands.CommandType;
+import seedu.uninurse.model.person.Patient;
+import seedu.uninurse.model.person.Person;
+import seedu.uninurse.model.task.DateTime;
+import seedu.uninurse.model.task.Recurrence;
+import seedu.uninurse.model.task.RecurringTask;
+import seedu.uninurse.testutil.PatientBuilder;
+
+public class PersistentUninurseBookTest {
+
+    private final PersistentUninurseBook persistentUninurseBook =
+            new PersistentUninurseBook(getTypicalUninurseBook());
+
+    @Test
+    public void constructor_noHistory() {
+        assertEquals(getTypicalUninurseBook(), persistentUninurseBook.getWorkingCopy());
+        assertFalse(persistentUninurseBook.canUndo());
+        assertFalse(persistentUninurseBook.canRedo());
+    }
+
+    @Test
+    public void undoRedo_addPatient_restoresVersions() {
+        UninurseBook expectedBook = getTypicalUninurseBook();
+        persistentUninurseBook.getWorkingCopy().addPatient(HOON);
+        persistentUninurseBook.makeSnapshot(createCommandResult(HOON, null));
+
+        persistentUninurseBook.undo();
+        assertEquals(expectedBook, persistentUninurseBook.getWorkingCopy());
+        assertTrue(persistentUninurseBook.canRedo());
+
+        persistentUninurseBook.redo();
+        expectedBook.addPatient(HOON);
+        assertEquals(expectedBook, persistentUninurseBook.getWorkingCopy());
+        assertFalse(persistentUninurseBook.canRedo());
+    }
+
+    @Test
+    public void undoRedo_editAndDeletePatients_restoresVersions() {
+        Patient editedAlice = new PatientBuilder(ALICE).withTags("Edited").build();
+        persistentUninurseBook.getWorkingCopy().setPatient(ALICE, editedAlice);
+        persistentUninurseBook.makeSnapshot(createCommandResult(editedAlice, ALICE));
+        UninurseBook editedBook = new UninurseBook(persistentUninurseBook.getWorkingCopy());
+
+        persistentUninurseBook.getWorkingCopy().removePerson(BENSON);
+        persistentUninurseBook.makeSnapshot(createCommandResult(null, BENSON));
+        UninurseBook deletedBook = new UninurseBook(persistentUninurseBook.getWorkingCopy());
+
+        persistentUninurseBook.undo();
+        assertEquals(editedBook, persistentUninurseBook.getWorkingCopy());
+        persistentUninurseBook.undo();
+        assertEquals(getTypicalUninurseBook(), persistentUninurseBook.getWorkingCopy());
+        persistentUninurseBook.redo();
+        persistentUninurseBook.redo();
+        assertEquals(deletedBook, persistentUninurseBook.getWorkingCopy());
+    }
+
+    @Test
+    public void undo_deleteMultiplePatients_restoresOriginalPositions() {
+        List<Person> deletedPersons = Arrays.asList(ALICE, CARL, GEORGE);
+        deletedPersons.forEach(persistentUninurseBook.getWorkingCopy()::removePerson);
+        persistentUninurseBook.makeSnapshot(new CommandResult("", CommandType.TEST,
+                new PersonListTracker(Optional.empty(), Optional.of(deletedPersons))));
+
+        persistentUninurseBook.undo();
+        assertEquals(getTypicalUninurseBook(), persistentUninurseBook.getWorkingCopy());
+    }
+
+    @Test
+    public void undoRedo_editPatient_replacesSingleSlot() {
+        Patient editedBenson = new PatientBuilder(BENSON).withTags("Edited").build();
+        persistentUninurseBook.getWorkingCopy().setPatient(BENSON, editedBenson);
+        persistentUninurseBook.makeSnapshot(createCommandResult(editedBenson, BENSON));
+
+        List<Integer> changedSlots = new ArrayList<>();
+        persistentUninurseBook.getWorkingCopy().getPersonList().addListener((Change<? extends Person> change) -> {
+            while (change.next()) {
+                for (int i = change.getFrom(); i < Math.max(change.getTo(), change.getFrom() + 1); i++) {
+                    changedSlots.add(i);
+                }
+            }
+        });
+
+        persistentUninurseBook.undo();
+        persistentUninurseBook.redo();
+        assertEquals(Arrays.asList(1, 1), changedSlots);
+    }
+
+    @Test
+    public void undoRedo_tasksRolledOver_restoresVersions() {
+        DateTime yesterday = new DateTime(LocalDate.now().minusDays(1).atStartOfDay());
+        Patient editedBenson = new PatientBuilder(BENSON)
+                .withTasks(new RecurringTask("Daily", yesterday, Recurrence.DAY, 1)).build();
+        UninurseBook editedBook = getTypicalUninurseBook();
+        editedBook.setPatient(BENSON, editedBenson);
+
+        // rolled over after the snapshot
+        persistentUninurseBook.getWorkingCopy().setPatient(BENSON, editedBenson);
+        persistentUninurseBook.makeSnapshot(createCommandResult(editedBenson, BENSON));
+        assertEquals(1, persistentUninurseBook.updatePersons().size());
+        persistentUninurseBook.undo();
+        assertEquals(getTypicalUninurseBook(), persistentUninurseBook.getWorkingCopy());
+        persistentUninurseBook.redo();
+        assertEquals(editedBook, persistentUninurseBook.getWorkingCopy());
+
+        // rolled over before the snapshot
+        persistentUninurseBook.undo();
+        persistentUninurseBook.getWorkingCopy().setPatient(BENSON, editedBenson);
+        persistentUninurseBook.updatePersons();
+        persistentUninurseBook.makeSnapshot(createCommandResult(editedBenson, BENSON));
+        persistentUninurseBook.undo();
+        assertEquals(getTypicalUninurseBook(), persistentUninurseBook.getWorkingCopy());
+    }
+
+    @Test
+    public void makeSnapshot_afterUndo_discardsRedoHistory() {
+        persistentUninurseBook.getWorkingCopy().addPatient(HOON);
+        persistentUninurseBook.makeSnapshot(createCommandResult(HOON, null));
+        persistentUninurseBook.undo();
+
+        persistentUninurseBook.getWorkingCopy().removePerson(ALICE);
+        persistentUninurseBook.makeSnapshot(createCommandResult(null, ALICE));
+        assertFalse(persistentUninurseBook.canRedo());
+
+        UninurseBook expectedBook = getTypicalUninurseBook();
+        persistentUninurseBook.undo();
+        assertEquals(expectedBook, persistentUninurseBook.getWorkingCopy());
+        assertFalse(persistentUninurseBook.canUndo());
+    }
+
+    @Test
+    public void constructor_negativeUndoLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new PersistentUninurseBook(getTypicalUninurseBook(), -1,
+                Config.DEFAULT_UNDO_BYTE_BUDGET));
+    }
+
+    @Test
+    public void makeSnapshot_undoLimitReached_evictsOldestVersion() {
+        PersistentUninurseBook limitedBook = new PersistentUninurseBook(getTypicalUninurseBook(), 1,
+                Config.DEFAULT_UNDO_BYTE_BUDGET);
+        limitedBook.getWorkingCopy().addPatient(HOON);
+        limitedBook.makeSnapshot(createCommandResult(HOON, null));
+        UninurseBook addedBook = new UninurseBook(limitedBook.getWorkingCopy());
+
+        limitedBook.getWorkingCopy().removePerson(ALICE);
+        limitedBook.makeSnapshot(createCommandResult(null, ALICE));
+
+        limitedBook.undo();
+        assertEquals(addedBook, limitedBook.getWorkingCopy());
+        assertFalse(limitedBook.canUndo());
+    }
+
+    @Test
+    public void constructor_nonPositiveByteBudget_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new PersistentUninurseBook(getTypicalUninurseBook(),
+                Config.DEFAULT_UNDO_LIMIT, 0));
+    }
+
+    @Test
+    public void getUndoHistoryStats_afterUndo_countsVersions() {
+        UndoHistoryStats initialStats = persistentUninurseBook.getUndoHistoryStats();
+        assertEquals(0, initialStats.getUndoableVersions());
+        assertTrue(initialStats.getEstimatedBytes() > 0);
+
+        persistentUninurseBook.getWorkingCopy().addPatient(HOON);
+        persistentUninurseBook.makeSnapshot(createCommandResult(HOON, null));
+        UndoHistoryStats addedStats = persistentUninurseBook.getUndoHistoryStats();
+        assertEquals(1, addedStats.getUndoableVersions());
+        assertTrue(addedStats.getEstimatedBytes() > initialStats.getEstimatedBytes());
+
+        persistentUninurseBook.undo();
+        UndoHistoryStats undoneStats = persistentUninurseBook.getUndoHistoryStats();
+        assertEquals(0, undoneStats.getUndoableVersions());
+        assertEquals(1, undoneStats.getRedoableVersions());
+        assertEquals(addedStats.getEstimatedBytes(), undoneStats.getEstimatedBytes());
+
+        persistentUninurseBook.getWorkingCopy().removePerson(ALICE);
+        persistentUninurseBook.makeSnapshot(createCommandResult(null, ALICE));
+        assertEquals(0, persistentUninurseBook.getUndoHistoryStats().getRedoableVersions());
+    }
+
+    @Test
+    public void makeSnapshot_byteBudgetExceeded_evictsOldestVersions() {
+        long initialBytes = persistentUninurseBook.getUndoHistoryStats().getEstimatedBytes();
+        PersistentUninurseBook budgetedBook = new PersistentUninurseBook(getTypicalUninurseBook(),
+                Config.DEFAULT_UNDO_LIMIT, initialBytes + 1);
+        budgetedBook.getWorkingCopy().addPatient(HOON);
+        budgetedBook.makeSnapshot(createCommandResult(HOON, null));
+
+        assertFalse(budgetedBook.canUndo());
+        assertEquals(0, budgetedBook.getUndoHistoryStats().getUndoableVersions());
+
+        UninurseBook expectedBook = getTypicalUninurseBook();
+        expectedBook.addPatient(HOON);
+        assertEquals(expectedBook, budgetedBook.getWorkingCopy());
+    }
+
+    private static CommandResult createCommandResult(Person added, Person deleted) {
+        PersonListTracker personListTracker = new PersonListTracker(
+                Optional.ofNullable(added).map(Arrays::asList),
+                Optional.ofNullable(deleted).map(Arrays::asList));
+        return new CommandResult("", CommandType.TEST, personListTracker);
+    }
+}
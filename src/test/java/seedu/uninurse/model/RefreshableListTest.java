@@ -0,0 +1,87 @@
+package seedu.uninurse.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
+
+public class RefreshableListTest {
+    private final ObservableList<String> source = FXCollections.observableArrayList("a", "b", "c", "d");
+    private final RefreshableList<String> refreshableList = new RefreshableList<>(source);
+    private final List<Integer> updatedIndexes = new ArrayList<>();
+    private int changeCount = 0;
+
+    public RefreshableListTest() {
+        refreshableList.addListener((Change<? extends String> change) -> {
+            changeCount++;
+            while (change.next()) {
+                if (change.wasUpdated()) {
+                    for (int i = change.getFrom(); i < change.getTo(); i++) {
+                        updatedIndexes.add(i);
+                    }
+                }
+            }
+        });
+    }
+
+    @Test
+    public void refresh_itemsInList_updatesOnlyThoseItemsInSingleChange() {
+        refreshableList.refresh(List.of(source.get(3), source.get(1)));
+        assertEquals(1, changeCount);
+        assertEquals(List.of(1, 3), updatedIndexes);
+    }
+
+    @Test
+    public void refresh_equalButNotSameItem_noChange() {
+        refreshableList.refresh(List.of(new String("a")));
+        assertEquals(0, changeCount);
+        assertTrue(updatedIndexes.isEmpty());
+    }
+
+    @Test
+    public void refresh_noItems_noChange() {
+        refreshableList.refresh(List.of());
+        assertEquals(0, changeCount);
+    }
+
+    @Test
+    public void refresh_filteredAndSortedView_showsNewResults() {
+        Set<String> shown = new HashSet<>(Set.of("a", "c"));
+        FilteredList<String> filteredList = new FilteredList<>(refreshableList, shown::contains);
+        SortedList<String> sortedList = new SortedList<>(filteredList, Comparator.reverseOrder());
+        assertEquals(List.of("c", "a"), sortedList);
+
+        // the results of the predicate change while the items stay the same
+        shown.remove("c");
+        shown.add("b");
+        shown.add("d");
+        refreshableList.refresh(List.of(source.get(1), source.get(2)));
+        assertEquals(List.of("b", "a"), sortedList);
+        refreshableList.refresh(List.of(source.get(3)));
+        assertEquals(List.of("d", "b", "a"), sortedList);
+    }
+
+    @Test
+    public void sourceChanged_changeForwarded() {
+        source.add("e");
+        source.remove("a");
+        source.set(0, "f");
+
+        assertEquals(3, changeCount);
+        assertFalse(updatedIndexes.contains(0));
+        assertEquals(source, refreshableList);
+    }
+}
@@ -0,0 +1,274 @@
+package seedu.uninurse.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.uninurse.model.person.Patient;
+import seedu.uninurse.model.task.DateTime;
+import seedu.uninurse.model.task.NonRecurringTask;
+import seedu.uninurse.model.task.Recurrence;
+import seedu.uninurse.model.task.RecurringTask;
+import seedu.uninurse.model.task.Task;
+import seedu.uninurse.testutil.PatientBuilder;
+
+public class TaskCalendarTest {
+    private static final DateTime DAY = DateTime.ofDate("25-10-22");
+    private static final DateTime OTHER_DAY = DateTime.ofDate("26-10-22");
+
+    private static final Task MORNING_TASK = new NonRecurringTask("Morning", new DateTime("25-10-22 0900"));
+    private static final Task NOON_TASK = new NonRecurringTask("Noon", new DateTime("25-10-22 1200"));
+    private static final Task EVENING_TASK = new NonRecurringTask("Evening", new DateTime("25-10-22 1800"));
+    private static final Task OTHER_DAY_TASK = new NonRecurringTask("Other day", new DateTime("26-10-22 0900"));
+
+    private final UninurseBook uninurseBook = new UninurseBook();
+    private final Patient amy = new PatientBuilder().withName("Amy").withTasks(MORNING_TASK, EVENING_TASK).build();
+    private final Patient bob = new PatientBuilder().withName("Bob").withTasks(NOON_TASK, OTHER_DAY_TASK).build();
+
+    @Test
+    public void getTasksOnDay_noPatients_returnsEmptyList() {
+        assertTrue(uninurseBook.getTasksOnDay(DAY).isEmpty());
+    }
+
+    @Test
+    public void getTasksOnDay_addedPatients_returnsTasksInOrderOfTime() {
+        uninurseBook.addPatient(amy);
+        uninurseBook.addPatient(bob);
+
+        assertEquals(List.of(new PatientTask(amy, MORNING_TASK), new PatientTask(bob, NOON_TASK),
+                new PatientTask(amy, EVENING_TASK)), uninurseBook.getTasksOnDay(DAY));
+        assertEquals(List.of(new PatientTask(bob, OTHER_DAY_TASK)), uninurseBook.getTasksOnDay(OTHER_DAY));
+    }
+
+    @Test
+    public void getTasksOnDay_editedPatient_returnsEditedTasks() {
+        uninurseBook.addPatient(amy);
+        uninurseBook.addPatient(bob);
+        Patient editedBob = new Patient(bob, bob.getTasks().delete(0));
+        uninurseBook.setPatient(bob, editedBob);
+
+        assertEquals(List.of(new PatientTask(amy, MORNING_TASK), new PatientTask(amy, EVENING_TASK)),
+                uninurseBook.getTasksOnDay(DAY));
+        assertEquals(List.of(new PatientTask(editedBob, OTHER_DAY_TASK)), uninurseBook.getTasksOnDay(OTHER_DAY));
+    }
+
+    @Test
+    public void getTasksOnDay_removedPatient_returnsRemainingTasks() {
+        uninurseBook.addPatient(amy);
+        uninurseBook.addPatient(bob);
+        uninurseBook.removePerson(bob);
+
+        assertEquals(List.of(new PatientTask(amy, MORNING_TASK), new PatientTask(amy, EVENING_TASK)),
+                uninurseBook.getTasksOnDay(DAY));
+        assertTrue(uninurseBook.getTasksOnDay(OTHER_DAY).isEmpty());
+    }
+
+    @Test
+    public void getTasksOnDay_resetData_returnsNewTasks() {
+        uninurseBook.addPatient(amy);
+        UninurseBook newData = new UninurseBook();
+        newData.addPatient(bob);
+        uninurseBook.resetData(newData);
+
+        assertEquals(List.of(new PatientTask(bob, NOON_TASK)), uninurseBook.getTasksOnDay(DAY));
+    }
+
+    @Test
+    public void getPatientsOnDay_patientAddedAfterQuery_includesAddedPatient() {
+        uninurseBook.addPatient(amy);
+        assertEquals(Set.of(amy), uninurseBook.getPatientsOnDay(DAY));
+        assertTrue(uninurseBook.getPatientsOnDay(OTHER_DAY).isEmpty());
+
+        uninurseBook.addPatient(bob);
+
+        Set<Patient> patientsOnDay = uninurseBook.getPatientsOnDay(DAY);
+        assertEquals(2, patientsOnDay.size());
+        assertTrue(patientsOnDay.contains(amy) && patientsOnDay.contains(bob));
+        assertEquals(Set.of(bob), uninurseBook.getPatientsOnDay(OTHER_DAY));
+    }
+
+    @Test
+    public void getTasksOnDay_patientChangedOnOtherDay_keepsCachedDay() {
+        RecurringTask weeklyTask = new RecurringTask("Weekly", new DateTime("04-10-22 1000"), Recurrence.WEEK, 1);
+        Patient carl = new PatientBuilder().withName("Carl").withTasks(weeklyTask).build();
+        uninurseBook.addPatient(amy);
+        uninurseBook.addPatient(carl);
+        List<PatientTask> tasksOnDay = uninurseBook.getTasksOnDay(DAY);
+        List<PatientTask> tasksOnOtherDay = uninurseBook.getTasksOnDay(OTHER_DAY);
+
+        // bob has a task on the other day only
+        uninurseBook.addPatient(new PatientBuilder().withName("Bob").withTasks(OTHER_DAY_TASK).build());
+        assertSame(tasksOnDay, uninurseBook.getTasksOnDay(DAY));
+        assertEquals(1, uninurseBook.getTasksOnDay(OTHER_DAY).size());
+
+        // the weekly task of carl occurs on the day, but not on the other day
+        List<PatientTask> tasksOnOtherDayWithBob = uninurseBook.getTasksOnDay(OTHER_DAY);
+        uninurseBook.removePerson(carl);
+        assertSame(tasksOnOtherDayWithBob, uninurseBook.getTasksOnDay(OTHER_DAY));
+        assertEquals(List.of(new PatientTask(amy, MORNING_TASK), new PatientTask(amy, EVENING_TASK)),
+                uninurseBook.getTasksOnDay(DAY));
+        assertTrue(tasksOnOtherDay.isEmpty());
+    }
+
+    @Test
+    public void getTasksBetween_range_returnsTasksInRangeInOrderOfTime() {
+        uninurseBook.addPatient(amy);
+        uninurseBook.addPatient(bob);
+
+        assertEquals(List.of(new PatientTask(bob, NOON_TASK), new PatientTask(amy, EVENING_TASK),
+                new PatientTask(bob, OTHER_DAY_TASK)), uninurseBook.getTasksBetween(
+                        new DateTime("25-10-22 1200"), new DateTime("26-10-22 0900")).collect(Collectors.toList()));
+        assertEquals(List.of(new PatientTask(amy, MORNING_TASK)), uninurseBook.getTasksBetween(
+                DAY, new DateTime("25-10-22 1159")).collect(Collectors.toList()));
+        assertEquals(0, uninurseBook.getTasksBetween(OTHER_DAY, DAY).count());
+    }
+
+    @Test
+    public void getTasksOnDay_recurringTaskStartsLater_notExpanded() {
+        int[] expansions = new int[1];
+        RecurringTask laterTask = new RecurringTask("Daily", new DateTime("26-10-22 1000"), Recurrence.DAY, 1) {
+            @Override
+            public List<Task> getOccurrencesBetween(LocalDate fromDay, LocalDate toDay) {
+                expansions[0]++;
+                return super.getOccurrencesBetween(fromDay, toDay);
+            }
+        };
+        uninurseBook.addPatient(new PatientBuilder().withTasks(laterTask).build());
+
+        assertTrue(uninurseBook.getTasksOnDay(DAY).isEmpty());
+        assertEquals(0, expansions[0]);
+
+        assertEquals(1, uninurseBook.getTasksOnDay(OTHER_DAY).size());
+        assertEquals(1, expansions[0]);
+    }
+
+    @Test
+    public void getTasksOnDay_recurringTaskNotOnDay_notExpanded() {
+        int[] expansions = new int[1];
+        RecurringTask weeklyTask = new RecurringTask("Weekly", new DateTime("04-10-22 1000"), Recurrence.WEEK, 1) {
+            @Override
+            public List<Task> getOccurrencesBetween(LocalDate fromDay, LocalDate toDay) {
+                expansions[0]++;
+                return super.getOccurrencesBetween(fromDay, toDay);
+            }
+        };
+        uninurseBook.addPatient(new PatientBuilder().withTasks(weeklyTask).build());
+
+        // the task started weeks before, but only occurs on tuesdays
+        assertTrue(uninurseBook.getTasksOnDay(OTHER_DAY).isEmpty());
+        assertEquals(0, expansions[0]);
+
+        assertEquals(List.of(new DateTime("25-10-22 1000")), uninurseBook.getTasksOnDay(DAY).stream()
+                .map(patientTask -> patientTask.getTask().getDateTime()).collect(Collectors.toList()));
+        assertEquals(1, expansions[0]);
+    }
+
+    @Test
+    public void getTasksOnDay_earlierDayAfterLaterDay_returnsOccurrenceOnEarlierDay() {
+        RecurringTask recurringTask = new RecurringTask("Daily", new DateTime("24-10-22 1000"), Recurrence.DAY, 1);
+        uninurseBook.addPatient(new PatientBuilder().withTasks(recurringTask).build());
+
+        assertEquals(1, uninurseBook.getTasksOnDay(OTHER_DAY).size());
+        assertEquals(List.of(new DateTime("25-10-22 1000")), uninurseBook.getTasksOnDay(DAY).stream()
+                .map(patientTask -> patientTask.getTask().getDateTime()).collect(Collectors.toList()));
+        assertTrue(uninurseBook.getTasksOnDay(DateTime.ofDate("23-10-22")).isEmpty());
+    }
+
+    @Test
+    public void getTasksBetween_recurringTask_returnsOccurrencesInRange() {
+        RecurringTask recurringTask = new RecurringTask("Daily", new DateTime("24-10-22 1000"), Recurrence.DAY, 1);
+        Patient patient = new PatientBuilder().withTasks(recurringTask, OTHER_DAY_TASK).build();
+        uninurseBook.addPatient(patient);
+
+        List<PatientTask> tasks = uninurseBook.getTasksBetween(DAY, new DateTime("31-12-99 2359"))
+                .limit(3).collect(Collectors.toList());
+
+        assertEquals(List.of(new DateTime("25-10-22 1000"), new DateTime("26-10-22 0900"),
+                new DateTime("26-10-22 1000")), tasks.stream().map(patientTask -> patientTask.getTask().getDateTime())
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    public void getTasksOnDay_recurringTask_returnsOccurrenceOnDay() {
+        DateTime twoDaysAgo = new DateTime(LocalDate.now().minusDays(2).atStartOfDay());
+        DateTime today = new DateTime(LocalDate.now().atStartOfDay());
+        RecurringTask recurringTask = new RecurringTask("Daily", twoDaysAgo, Recurrence.DAY, 1);
+        Patient patient = new PatientBuilder().withTasks(recurringTask).build();
+        uninurseBook.addPatient(patient);
+        List<PatientTask> expectedTasks = List.of(new PatientTask(patient,
+                new RecurringTask("Daily", today, Recurrence.DAY, 1, twoDaysAgo)));
+        assertEquals(expectedTasks, uninurseBook.getTasksOnDay(today));
+
+        // rolling the task forward replaces the patient without duplicating its occurrences
+        Patient updatedPatient = uninurseBook.updatePersons().get(patient);
+        assertEquals(1, updatedPatient.getTasks().size());
+        assertEquals(List.of(new PatientTask(updatedPatient, new RecurringTask("Daily", today, Recurrence.DAY, 1,
+                twoDaysAgo))), uninurseBook.getTasksOnDay(today));
+    }
+
+    @Test
+    public void takePatientsDue_passedRecurringTasks_returnsOnlyPatientsDue() {
+        TaskCalendar taskCalendar = new TaskCalendar();
+        ObservableList<Patient> patients = FXCollections.observableArrayList();
+        patients.addListener(taskCalendar::applyChange);
+        DateTime yesterday = new DateTime(LocalDate.now().minusDays(1).atStartOfDay());
+        Patient duePatient = new PatientBuilder().withName("Due")
+                .withTasks(new RecurringTask("Daily", yesterday, Recurrence.DAY, 1)).build();
+        Patient removedPatient = new PatientBuilder().withName("Removed")
+                .withTasks(new RecurringTask("Daily", yesterday, Recurrence.DAY, 1)).build();
+        patients.addAll(amy, duePatient, removedPatient);
+        patients.remove(removedPatient);
+
+        assertEquals(List.of(duePatient), taskCalendar.takePatientsDue());
+        assertEquals(List.of(), taskCalendar.takePatientsDue());
+    }
+
+    @Test
+    public void updatePersons_rolledOverPatient_notDueAgain() {
+        DateTime yesterday = new DateTime(LocalDate.now().minusDays(1).atStartOfDay());
+        Patient patient = new PatientBuilder()
+                .withTasks(new RecurringTask("Daily", yesterday, Recurrence.DAY, 1)).build();
+        uninurseBook.addPatient(patient);
+
+        Patient updatedPatient = uninurseBook.updatePersons().get(patient);
+        assertEquals(List.of(updatedPatient), uninurseBook.getPatientList());
+        assertTrue(uninurseBook.updatePersons().isEmpty());
+
+        assertFalse(updatedPatient.getTasks().get(0).passedTaskDate());
+        assertEquals(List.of(updatedPatient), uninurseBook.getPatientList());
+    }
+
+    @Test
+    public void getTasksOnDay_otherThreadAfterQueried_throwsAssertionError() {
+        TaskCalendar taskCalendar = new TaskCalendar();
+        taskCalendar.getTasksOnDay(DAY);
+
+        Throwable thrown = CompletableFuture.supplyAsync(() -> taskCalendar.getTasksOnDay(DAY))
+                .handle((tasks, exception) -> exception).join();
+        assertTrue(thrown.getCause() instanceof AssertionError);
+    }
+
+    @Test
+    public void getTasksBetween_consumedOnOtherThread_throwsAssertionError() {
+        TaskCalendar taskCalendar = new TaskCalendar();
+        ObservableList<Patient> patients = FXCollections.observableArrayList();
+        patients.addListener(taskCalendar::applyChange);
+        patients.add(amy);
+        Stream<PatientTask> tasks = taskCalendar.getTasksBetween(DAY, OTHER_DAY);
+
+        Throwable thrown = CompletableFuture.supplyAsync(tasks::count).handle((count, exception) -> exception).join();
+        assertTrue(thrown.getCause() instanceof AssertionError);
+    }
+}
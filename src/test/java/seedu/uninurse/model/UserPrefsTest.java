@@ -18,4 +18,11 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setUninurseBookFilePath(null));
     }
 
+    @Test
+    public void setParallelFindThreshold_nonPositiveThreshold_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setParallelFindThreshold(0));
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setParallelFindThreshold(-1));
+    }
+
 }
@@ -0,0 +1,150 @@
+package seedu.uninurse.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.uninurse.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.uninurse.logic.parser.CliSyntax.PREFIX_CONDITION;
+import static seedu.uninurse.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.uninurse.logic.parser.CliSyntax.PREFIX_MEDICATION;
+import static seedu.uninurse.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.uninurse.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.uninurse.logic.parser.CliSyntax.PREFIX_REMARK;
+import static seedu.uninurse.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.uninurse.logic.parser.CliSyntax.PREFIX_TASK_DESCRIPTION;
+import static seedu.uninurse.testutil.TypicalPatients.ALICE;
+import static seedu.uninurse.testutil.TypicalPatients.BENSON;
+import static seedu.uninurse.testutil.TypicalPatients.getTypicalPatients;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.uninurse.logic.parser.ArgumentMultimap;
+import seedu.uninurse.logic.parser.ArgumentTokenizer;
+import seedu.uninurse.model.condition.ConditionContainsKeywordsPredicate;
+import seedu.uninurse.model.medication.MedicationContainsKeywordsPredicate;
+import seedu.uninurse.model.remark.RemarkContainsKeywordsPredicate;
+import seedu.uninurse.model.tag.TagContainsKeywordsPredicate;
+import seedu.uninurse.model.task.TaskContainsKeywordsPredicate;
+import seedu.uninurse.model.task.TaskList;
+
+public class PatientMatchPredicateTest {
+
+    @Test
+    public void equals() {
+        PatientMatchPredicate predicate = new PatientMatchPredicate(List.of("meier"), tokenize(" t/friends"));
+
+        // same object -> returns true
+        assertTrue(predicate.equals(predicate));
+
+        // same descriptors -> returns true
+        assertTrue(predicate.equals(new PatientMatchPredicate(List.of("meier"), tokenize(" t/friends"))));
+
+        // different descriptors -> returns false
+        assertFalse(predicate.equals(new PatientMatchPredicate(List.of("meier"), tokenize(" n/friends"))));
+        assertFalse(predicate.equals(new PatientMatchPredicate(List.of("meier"))));
+
+        // null -> returns false
+        assertNotEquals(null, predicate);
+    }
+
+    @Test
+    public void test_descriptors_sameAsPredicateTree() {
+        assertSameAsPredicateTree(List.of("meier"), "");
+        assertSameAsPredicateTree(List.of("MEIER", "kurz", "catheter"), "");
+        assertSameAsPredicateTree(List.of(""), " n/");
+        assertSameAsPredicateTree(List.of(), " n/meier n/kurz t/high-risk");
+        assertSameAsPredicateTree(List.of("street"), " p/948 e/example");
+        assertSameAsPredicateTree(List.of(), " a/ave c/h1n1 m/amoxicillin r/allergic d/16-12-22");
+        assertSameAsPredicateTree(List.of("nobody"), " t/friends");
+    }
+
+    @Test
+    public void test_cheapClauseFails_expensiveClauseNotEvaluated() {
+        int[] reads = new int[2];
+        Patient benson = new Patient(BENSON, BENSON.getTasks()) {
+            @Override
+            public Name getName() {
+                reads[0]++;
+                return super.getName();
+            }
+
+            @Override
+            public TaskList getTasks() {
+                reads[1]++;
+                return super.getTasks();
+            }
+        };
+
+        // the phone clause fails before the task clause is tried
+        assertFalse(new PatientMatchPredicate(List.of(), tokenize(" d/vitals p/000")).test(benson));
+        assertEquals(0, reads[1]);
+
+        // the tag clause fails before the name clause is tried
+        assertFalse(new PatientMatchPredicate(List.of(), tokenize(" n/benson t/nobody")).test(benson));
+        assertEquals(0, reads[0]);
+
+        // the task clause is tried once the phone clause passes
+        assertTrue(new PatientMatchPredicate(List.of(), tokenize(" d/vitals p/987")).test(benson));
+        assertEquals(1, reads[1]);
+        assertFalse(new PatientMatchPredicate(List.of(), tokenize(" d/vitals p/987")).test(ALICE));
+    }
+
+    private static void assertSameAsPredicateTree(List<String> keywords, String args) {
+        ArgumentMultimap argMultimap = tokenize(args);
+        PatientMatchPredicate predicate = new PatientMatchPredicate(keywords, argMultimap);
+        Predicate<Patient> predicateTree = predicateTree(keywords, argMultimap);
+        for (Patient patient : getTypicalPatients()) {
+            assertEquals(predicateTree.test(patient), predicate.test(patient), patient + " with " + args);
+        }
+    }
+
+    /**
+     * Returns the descriptors combined from the predicates of every detail, as they were before being compiled.
+     */
+    private static Predicate<Patient> predicateTree(List<String> keywords, ArgumentMultimap argMultimap) {
+        List<Predicate<? super Patient>> predicates = new ArrayList<>();
+        if (!keywords.isEmpty()) {
+            Predicate<Patient> anyDetail = new PersonContainsKeywordsPredicate(keywords)::test;
+            predicates.add(anyDetail.or(new ConditionContainsKeywordsPredicate(keywords))
+                    .or(new TaskContainsKeywordsPredicate(keywords))
+                    .or(new MedicationContainsKeywordsPredicate(keywords))
+                    .or(new RemarkContainsKeywordsPredicate(keywords)));
+        }
+        addIfPresent(predicates, argMultimap.getAllValues(PREFIX_NAME), new NameContainsKeywordsPredicate(
+                argMultimap.getAllValues(PREFIX_NAME)));
+        addIfPresent(predicates, argMultimap.getAllValues(PREFIX_PHONE), new PhoneContainsKeywordsPredicate(
+                argMultimap.getAllValues(PREFIX_PHONE)));
+        addIfPresent(predicates, argMultimap.getAllValues(PREFIX_EMAIL), new EmailContainsKeywordsPredicate(
+                argMultimap.getAllValues(PREFIX_EMAIL)));
+        addIfPresent(predicates, argMultimap.getAllValues(PREFIX_ADDRESS), new AddressContainsKeywordsPredicate(
+                argMultimap.getAllValues(PREFIX_ADDRESS)));
+        addIfPresent(predicates, argMultimap.getAllValues(PREFIX_TAG), new TagContainsKeywordsPredicate(
+                argMultimap.getAllValues(PREFIX_TAG)));
+        addIfPresent(predicates, argMultimap.getAllValues(PREFIX_TASK_DESCRIPTION),
+                new TaskContainsKeywordsPredicate(argMultimap.getAllValues(PREFIX_TASK_DESCRIPTION)));
+        addIfPresent(predicates, argMultimap.getAllValues(PREFIX_CONDITION),
+                new ConditionContainsKeywordsPredicate(argMultimap.getAllValues(PREFIX_CONDITION)));
+        addIfPresent(predicates, argMultimap.getAllValues(PREFIX_MEDICATION),
+                new MedicationContainsKeywordsPredicate(argMultimap.getAllValues(PREFIX_MEDICATION)));
+        addIfPresent(predicates, argMultimap.getAllValues(PREFIX_REMARK), new RemarkContainsKeywordsPredicate(
+                argMultimap.getAllValues(PREFIX_REMARK)));
+        return patient -> predicates.stream().allMatch(predicate -> predicate.test(patient));
+    }
+
+    private static void addIfPresent(List<Predicate<? super Patient>> predicates, List<String> values,
+            Predicate<? super Patient> predicate) {
+        if (!values.isEmpty()) {
+            predicates.add(predicate);
+        }
+    }
+
+    private static ArgumentMultimap tokenize(String args) {
+        return ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS,
+                PREFIX_TAG, PREFIX_TASK_DESCRIPTION, PREFIX_CONDITION, PREFIX_MEDICATION, PREFIX_REMARK);
+    }
+}
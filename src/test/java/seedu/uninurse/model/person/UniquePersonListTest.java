@@ -2,6 +2,7 @@ package seedu.uninurse.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.uninurse.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.uninurse.logic.commands.CommandTestUtil.VALID_TAG_ROOM;
@@ -15,8 +16,10 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.uninurse.model.exceptions.PatientNotFoundException;
 import seedu.uninurse.model.person.exceptions.DuplicatePersonException;
 import seedu.uninurse.model.person.exceptions.PersonNotFoundException;
+import seedu.uninurse.testutil.PatientBuilder;
 import seedu.uninurse.testutil.PersonBuilder;
 
 public class UniquePersonListTest {
@@ -101,6 +104,14 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_previousIdentityNotContained() {
+        uniquePersonList.addPerson(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void setPerson_editedPersonHasNonUniqueIdentity_throwsDuplicatePersonException() {
         uniquePersonList.addPerson(ALICE);
@@ -126,6 +137,36 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void removePerson_existingPerson_canAddPersonAgain() {
+        uniquePersonList.addPerson(ALICE);
+        uniquePersonList.removePerson(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+        uniquePersonList.addPerson(ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void removePersons_personDoesNotExist_throwsPersonNotFoundException() {
+        uniquePersonList.addPatient(ALICE);
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.removePersons(List.of(ALICE, BOB)));
+    }
+
+    @Test
+    public void removePersons_existingPersons_removesPersonsAndPatients() {
+        Person person = new PersonBuilder().build();
+        uniquePersonList.addPatient(ALICE);
+        uniquePersonList.addPerson(person);
+        uniquePersonList.addPatient(BOB);
+        uniquePersonList.removePersons(List.of(BOB, person));
+
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.addPatient(ALICE);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertEquals(List.of(ALICE), uniquePersonList.getPatientList());
+        assertFalse(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -161,6 +202,65 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithSameIdentityPersons_throwsDuplicatePersonException() {
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_ROOM).build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, editedAlice);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
+    }
+
+    @Test
+    public void setPatients_listWithDuplicatePatients_throwsDuplicatePersonException() {
+        List<Patient> listWithDuplicatePatients = Arrays.asList(ALICE, BOB, ALICE);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPatients(listWithDuplicatePatients));
+    }
+
+    @Test
+    public void setPatientsBatch_editedPatientsWithSameIdentity_throwsDuplicatePersonException() {
+        uniquePersonList.addPatient(ALICE);
+        uniquePersonList.addPatient(BOB);
+        Patient amy = new PatientBuilder().withName("Amy Bee").build();
+        Patient amyWithTag = new PatientBuilder(amy).withTags(VALID_TAG_ROOM).build();
+
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPatients(List.of(ALICE, BOB),
+                List.of(amy, amyWithTag)));
+        assertEquals(List.of(ALICE, BOB), uniquePersonList.getPatientList());
+    }
+
+    @Test
+    public void setPatientsBatch_editedPatients_replacesPatients() {
+        uniquePersonList.addPatient(ALICE);
+        uniquePersonList.addPatient(BOB);
+        Patient editedAlice = new PatientBuilder(ALICE).withTags(VALID_TAG_ROOM).build();
+        Patient editedBob = new PatientBuilder(BOB).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.setPatients(List.of(ALICE, BOB), List.of(editedAlice, editedBob));
+
+        assertEquals(List.of(editedAlice, editedBob), uniquePersonList.getPatientList());
+    }
+
+    @Test
+    public void getPatient_equalPatient_returnsPatientInList() {
+        uniquePersonList.addPatient(ALICE);
+        uniquePersonList.addPatient(BOB);
+        Patient aliceCopy = new PatientBuilder(ALICE).build();
+        assertSame(ALICE, uniquePersonList.getPatient(aliceCopy));
+    }
+
+    @Test
+    public void getPatient_patientNotInList_throwsPatientNotFoundException() {
+        uniquePersonList.addPatient(ALICE);
+        assertThrows(PatientNotFoundException.class, () -> uniquePersonList.getPatient(BOB));
+
+        // same identity, different details -> throws
+        Patient editedAlice = new PatientBuilder(ALICE).withTags(VALID_TAG_ROOM).build();
+        assertThrows(PatientNotFoundException.class, () -> uniquePersonList.getPatient(editedAlice));
+
+        // replaced patient -> throws
+        uniquePersonList.setPatient(ALICE, editedAlice);
+        assertThrows(PatientNotFoundException.class, () -> uniquePersonList.getPatient(ALICE));
+        assertSame(editedAlice, uniquePersonList.getPatient(editedAlice));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
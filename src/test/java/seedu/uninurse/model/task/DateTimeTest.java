@@ -1,10 +1,14 @@
 package seedu.uninurse.model.task;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.uninurse.testutil.TestUtil.getCurrentDate;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
 import org.junit.jupiter.api.Test;
 
 class DateTimeTest {
@@ -44,5 +48,44 @@ class DateTimeTest {
         assertFalse(new DateTime().isToday());
     }
 
-    // TODO date related tests, e.g date validation etc
+    @Test
+    public void toString_validDateTime_matchesPattern() {
+        assertEquals("5-3-22 0715", new DateTime("05-03-22 0715").toString());
+        assertEquals("31-12-99 2359", new DateTime("31-12-99 2359").toString());
+    }
+
+    @Test
+    public void equals_sameMinute_returnsTrue() {
+        DateTime dateTime = new DateTime(LocalDateTime.of(2022, 10, 25, 14, 45, 30));
+        assertEquals(new DateTime("25-10-22 1445"), dateTime);
+        assertEquals(new DateTime("25-10-22 1445").hashCode(), dateTime.hashCode());
+        assertEquals(0, new DateTime("25-10-22 1445").compareTo(dateTime));
+    }
+
+    @Test
+    public void compareTo_differentMinutes_ordersByTime() {
+        DateTime earlier = new DateTime("31-12-22 2359");
+        DateTime later = new DateTime("1-1-23 0000");
+        assertTrue(earlier.compareTo(later) < 0);
+        assertTrue(later.compareTo(earlier) > 0);
+        assertTrue(earlier.isBefore(later));
+        assertFalse(later.isBefore(earlier));
+        assertFalse(earlier.isDate(later));
+        assertTrue(later.isDate(DateTime.ofDate("1-1-23")));
+    }
+
+    @Test
+    public void plusDuration_recurrence_returnsDateTimeAfterDuration() {
+        DateTime dateTime = new DateTime("31-1-22 0900");
+        assertEquals(new DateTime("2-2-22 0900"), dateTime.plusDuration(Recurrence.DAYS, 2));
+        assertEquals(new DateTime("14-2-22 0900"), dateTime.plusDuration(Recurrence.WEEKS, 2));
+        assertEquals(new DateTime("28-2-22 0900"), dateTime.plusDuration(Recurrence.MONTH, 1));
+        assertEquals(new DateTime("31-1-23 0900"), dateTime.plusDuration(Recurrence.YEAR, 1));
+    }
+
+    @Test
+    public void toLocalDate_validDateTime_returnsDatePortion() {
+        assertEquals(LocalDate.of(2022, 10, 25), new DateTime("25-10-22 2359").toLocalDate());
+        assertEquals(LocalDate.of(2022, 10, 25).toEpochDay(), new DateTime("25-10-22 0000").getEpochDay());
+    }
 }
@@ -13,6 +13,11 @@ import static seedu.uninurse.testutil.TypicalDateTime.DATE_TIME_THREE;
 import static seedu.uninurse.testutil.TypicalDateTime.DATE_TIME_TODAY;
 import static seedu.uninurse.testutil.TypicalDateTime.DATE_TIME_TWO;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
 import org.junit.jupiter.api.Test;
 
 class RecurringTaskTest {
@@ -77,11 +82,92 @@ class RecurringTaskTest {
     }
 
     @Test
-    public void getNextRecurringTask_returnsCorrectRecurringTask() {
+    public void getFirstOccurrenceFrom_dayAfterOccurrence_returnsNextOccurrence() {
         RecurringTask recurringTask = new RecurringTask(TASK_DESCRIPTION, DATE_TIME_ONE, Recurrence.DAYS, 4);
-        RecurringTask nextRecurringTask = new RecurringTask(TASK_DESCRIPTION, DATE_TIME_THREE, Recurrence.DAYS, 4);
 
-        assertEquals(nextRecurringTask, recurringTask.getNextRecurringTask());
+        assertEquals(Optional.of(DATE_TIME_ONE), recurringTask.getFirstOccurrenceFrom(LocalDate.of(2022, 10, 1)));
+        assertEquals(Optional.of(DATE_TIME_ONE), recurringTask.getFirstOccurrenceFrom(LocalDate.of(2022, 10, 25)));
+        assertEquals(Optional.of(DATE_TIME_THREE), recurringTask.getFirstOccurrenceFrom(LocalDate.of(2022, 10, 26)));
+    }
+
+    @Test
+    public void isOccurrenceOfRule() {
+        // start of the rule -> returns true
+        assertTrue(new RecurringTask(TASK_DESCRIPTION, DATE_TIME_ONE, Recurrence.DAYS, 4).isOccurrenceOfRule());
+
+        // later occurrence of the rule -> returns true
+        assertTrue(new RecurringTask(TASK_DESCRIPTION, DATE_TIME_THREE, Recurrence.DAYS, 4, DATE_TIME_ONE)
+                .isOccurrenceOfRule());
+
+        // rule starts after the date and time -> returns false
+        assertFalse(new RecurringTask(TASK_DESCRIPTION, DATE_TIME_ONE, Recurrence.DAYS, 4, DATE_TIME_THREE)
+                .isOccurrenceOfRule());
+
+        // rule never reaches the date and time -> returns false
+        assertFalse(new RecurringTask(TASK_DESCRIPTION, DATE_TIME_THREE, Recurrence.DAYS, 3, DATE_TIME_ONE)
+                .isOccurrenceOfRule());
+    }
+
+    @Test
+    public void getOccurrencesBetween_range_returnsOccurrencesInRange() {
+        RecurringTask recurringTask = new RecurringTask(TASK_DESCRIPTION, DATE_TIME_ONE, Recurrence.DAYS, 4);
+
+        // range before the start -> no occurrences
+        assertEquals(List.of(), recurringTask.getOccurrencesBetween(LocalDate.of(2022, 10, 1),
+                LocalDate.of(2022, 10, 24)));
+
+        // range long after the start -> occurrences in range only
+        DateTime start = DATE_TIME_ONE;
+        assertEquals(List.of(
+                new RecurringTask(TASK_DESCRIPTION, new DateTime("28-12-22 1445"), Recurrence.DAYS, 4, start),
+                new RecurringTask(TASK_DESCRIPTION, new DateTime("1-1-23 1445"), Recurrence.DAYS, 4, start)),
+                recurringTask.getOccurrencesBetween(LocalDate.of(2022, 12, 27), LocalDate.of(2023, 1, 4)));
+    }
+
+    @Test
+    public void getOccurrencesBetween_monthlyTask_keepsDayOfMonthOfStart() {
+        DateTime start = new DateTime("31-1-22 0900");
+        RecurringTask recurringTask = new RecurringTask(TASK_DESCRIPTION, start, Recurrence.MONTH, 1);
+
+        assertEquals(List.of(
+                new RecurringTask(TASK_DESCRIPTION, new DateTime("28-2-22 0900"), Recurrence.MONTH, 1, start),
+                new RecurringTask(TASK_DESCRIPTION, new DateTime("31-3-22 0900"), Recurrence.MONTH, 1, start)),
+                recurringTask.getOccurrencesBetween(LocalDate.of(2022, 2, 1), LocalDate.of(2022, 3, 31)));
+    }
+
+    @Test
+    public void updateTask_passedTask_returnsNextOccurrenceWithSameStart() {
+        DateTime start = new DateTime(LocalDate.now().minusYears(1).atTime(LocalTime.MIN));
+        RecurringTask recurringTask = new RecurringTask(TASK_DESCRIPTION, start, Recurrence.DAY, 1);
+
+        RecurringTask expectedTask = new RecurringTask(TASK_DESCRIPTION,
+                new DateTime(LocalDate.now().plusDays(1).atTime(LocalTime.MIN)), Recurrence.DAY, 1, start);
+        assertEquals(List.of(expectedTask), recurringTask.updateTask());
+    }
+
+    @Test
+    public void getOccurrenceKey_sameOccurrence_equalKeys() {
+        RecurringTask recurringTask = new RecurringTask(TASK_DESCRIPTION, DATE_TIME_THREE, Recurrence.DAYS, 4);
+        RecurringTask laterStart = new RecurringTask(TASK_DESCRIPTION, DATE_TIME_THREE, Recurrence.DAYS, 4,
+                DATE_TIME_THREE);
+        RecurringTask earlierStart = new RecurringTask(TASK_DESCRIPTION, DATE_TIME_THREE, Recurrence.DAYS, 4,
+                DATE_TIME_ONE);
+
+        // same occurrence, different start -> equal keys
+        assertTrue(laterStart.isSameOccurrence(earlierStart));
+        assertEquals(laterStart.getOccurrenceKey(), earlierStart.getOccurrenceKey());
+        assertEquals(recurringTask.getOccurrenceKey(), earlierStart.getOccurrenceKey());
+
+        // different frequency -> different keys
+        RecurringTask otherFrequency = new RecurringTask(TASK_DESCRIPTION, DATE_TIME_THREE, Recurrence.DAYS, 2);
+        assertFalse(recurringTask.isSameOccurrence(otherFrequency));
+        assertNotEquals(recurringTask.getOccurrenceKey(), otherFrequency.getOccurrenceKey());
+
+        // different date and time -> different keys
+        LocalDate nextDay = DATE_TIME_THREE.toLocalDate().plusDays(1);
+        RecurringTask nextOccurrence = (RecurringTask) recurringTask.getOccurrencesBetween(nextDay,
+                nextDay.plusDays(4)).get(0);
+        assertNotEquals(recurringTask.getOccurrenceKey(), nextOccurrence.getOccurrenceKey());
     }
 
     @Test
@@ -112,6 +198,13 @@ class RecurringTaskTest {
         assertTrue(RecurringTask.isValidRecurAndFreq("3 " + Recurrence.MONTHS));
     }
 
+    @Test
+    public void getSearchKey_recurringTask_normalizedDisplayedTask() {
+        RecurringTask recurringTask = new RecurringTask(TASK_DESCRIPTION, DATE_TIME_ONE, Recurrence.WEEK, 1);
+        assertEquals(recurringTask.toString().toLowerCase(), recurringTask.getSearchKey());
+        assertTrue(recurringTask.getSearchKey().contains("every 1 week"));
+    }
+
     @Test
     public void equals() {
         RecurringTask recurringTask = new RecurringTask(TASK_DESCRIPTION, DATE_TIME_ONE, Recurrence.DAY, 1);
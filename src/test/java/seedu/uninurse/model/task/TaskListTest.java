@@ -3,13 +3,18 @@ package seedu.uninurse.model.task;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.uninurse.testutil.Assert.assertThrows;
 import static seedu.uninurse.testutil.TestUtil.getCurrentDate;
 import static seedu.uninurse.testutil.TypicalTasks.TASK_HEALTH_RECORDS;
 import static seedu.uninurse.testutil.TypicalTasks.TASK_INSULIN;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -34,6 +39,21 @@ class TaskListTest {
         assertThrows(DuplicateTaskException.class, () -> tasks.add(TASK_INSULIN));
     }
 
+    @Test
+    public void add_sameOccurrenceOfRecurringTask_throwsDuplicateTaskException() {
+        DateTime dateTime = new DateTime("20-10-22 0800");
+        RecurringTask recurringTask = new RecurringTask("test", dateTime, Recurrence.DAY, 1);
+        RecurringTask earlierStartedTask = new RecurringTask("test", dateTime, Recurrence.DAY, 1,
+                new DateTime("17-10-22 0800"));
+        TaskList tasks = new TaskList().add(recurringTask);
+
+        assertTrue(tasks.contains(earlierStartedTask));
+        assertThrows(DuplicateTaskException.class, () -> tasks.add(earlierStartedTask));
+
+        // different frequency -> not a duplicate
+        assertFalse(tasks.contains(new RecurringTask("test", dateTime, Recurrence.DAY, 2)));
+    }
+
     @Test
     public void edit_sameTask_throwsDuplicateTaskException() {
         TaskList tasks = new TaskList().add(TASK_INSULIN);
@@ -51,6 +71,41 @@ class TaskListTest {
         assertEquals(tasks, expectedTasks);
     }
 
+    @Test
+    public void add_unsortedTasks_keepsTasksSortedByDateTime() {
+        Task early = new NonRecurringTask("early", new DateTime("20-10-22 0800"));
+        Task middle = new NonRecurringTask("middle", new DateTime("20-10-22 1200"));
+        Task alsoMiddle = new NonRecurringTask("also middle", new DateTime("20-10-22 1200"));
+        Task late = new NonRecurringTask("late", new DateTime("21-10-22 0800"));
+
+        TaskList original = new TaskList().add(late).add(middle).add(early);
+        TaskList tasks = original.add(alsoMiddle);
+
+        assertEquals(List.of(early, middle, alsoMiddle, late), tasks.getInternalList());
+        // earlier versions are left unchanged
+        assertEquals(List.of(early, middle, late), original.getInternalList());
+        assertTrue(tasks.contains(alsoMiddle));
+        assertFalse(original.contains(alsoMiddle));
+    }
+
+    @Test
+    public void edit_newDateTime_movesTaskToSortedPosition() {
+        Task first = new NonRecurringTask("first", new DateTime("20-10-22 0800"));
+        Task second = new NonRecurringTask("second", new DateTime("20-10-22 0800"));
+        Task third = new NonRecurringTask("third", new DateTime("20-10-22 0800"));
+        Task late = new NonRecurringTask("late", new DateTime("21-10-22 0800"));
+        TaskList tasks = new TaskList().add(first).add(second).add(third).add(late);
+
+        Task editedSecond = new NonRecurringTask("edited second", new DateTime("20-10-22 0800"));
+        assertEquals(List.of(first, editedSecond, third, late), tasks.edit(1, editedSecond).getInternalList());
+
+        Task editedFirst = new NonRecurringTask("first", new DateTime("22-10-22 0800"));
+        assertEquals(List.of(second, third, late, editedFirst), tasks.edit(0, editedFirst).getInternalList());
+
+        Task editedLate = new NonRecurringTask("late", new DateTime("19-10-22 0800"));
+        assertEquals(List.of(editedLate, first, second, third), tasks.edit(3, editedLate).getInternalList());
+    }
+
     @Test
     public void size_emptyList_returnsZero() {
         TaskList tasks = new TaskList();
@@ -103,4 +158,43 @@ class TaskListTest {
 
         assertTrue(taskList.containsTaskToday());
     }
+
+    @Test
+    public void updateTasks_passedRecurringTask_rollsForwardWithoutStoringOccurrences() {
+        DateTime start = new DateTime(LocalDate.now().minusDays(30).atTime(LocalTime.MIN));
+        ArrayList<Task> tasks = new ArrayList<>();
+        tasks.add(new RecurringTask("test", start, Recurrence.DAY, 1));
+
+        TaskList taskList = new TaskList(tasks);
+        TaskList updatedTaskList = taskList.updateTasks();
+
+        assertNotSame(taskList, updatedTaskList);
+        assertTrue(taskList.get(0).passedTaskDate());
+        taskList = updatedTaskList;
+        assertEquals(1, taskList.size());
+        assertFalse(taskList.get(0).passedTaskDate());
+        assertEquals(start, ((RecurringTask) taskList.get(0)).getStartDateTime());
+    }
+
+    @Test
+    public void updateTasks_noPassedTask_returnsSameTaskList() {
+        TaskList taskList = new TaskList().add(new RecurringTask("test",
+                new DateTime(LocalDate.now().plusDays(1).atTime(LocalTime.MIN)), Recurrence.DAY, 1));
+        assertSame(taskList, taskList.updateTasks());
+    }
+
+    @Test
+    public void updateTasks_storedOccurrences_mergedIntoEarliestRule() {
+        DateTime start = new DateTime(LocalDate.now().minusDays(3).atTime(LocalTime.MIN));
+        ArrayList<Task> tasks = new ArrayList<>();
+        // each occurrence was stored as a rule that starts at it
+        for (int i = 0; i < 5; i++) {
+            tasks.add(new RecurringTask("test", start.plusDuration(Recurrence.DAY, i), Recurrence.DAY, 1));
+        }
+
+        TaskList taskList = new TaskList(tasks).updateTasks();
+
+        assertEquals(1, taskList.size());
+        assertEquals(start, ((RecurringTask) taskList.get(0)).getStartDateTime());
+    }
 }
@@ -0,0 +1,77 @@
+package seedu.uninurse.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.uninurse.testutil.TypicalPatients.getTypicalUninurseBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.uninurse.model.ReadOnlyUninurseBook;
+import seedu.uninurse.model.UninurseBook;
+
+public class DebouncedUninurseBookSaverTest {
+    private static final long SAVE_DELAY_MILLIS = 60_000;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void flush_burstOfRequests_savesLatestUninurseBookOnce() throws IOException {
+        RecordingUninurseBookStorage storage = new RecordingUninurseBookStorage(testFolder.resolve("data.json"));
+        DebouncedUninurseBookSaver saver = new DebouncedUninurseBookSaver(storage, SAVE_DELAY_MILLIS);
+        UninurseBook latestUninurseBook = getTypicalUninurseBook();
+
+        saver.requestSave(new UninurseBook());
+        saver.requestSave(new UninurseBook());
+        saver.requestSave(latestUninurseBook);
+        saver.flush();
+
+        assertEquals(List.of(latestUninurseBook), storage.savedUninurseBooks);
+        assertFalse(saver.takeFailure().isPresent());
+    }
+
+    @Test
+    public void flush_noRequest_nothingSaved() throws IOException {
+        RecordingUninurseBookStorage storage = new RecordingUninurseBookStorage(testFolder.resolve("data.json"));
+        DebouncedUninurseBookSaver saver = new DebouncedUninurseBookSaver(storage, SAVE_DELAY_MILLIS);
+
+        saver.flush();
+        assertEquals(List.of(), storage.savedUninurseBooks);
+    }
+
+    @Test
+    public void requestSave_afterDelay_savedInBackground() throws Exception {
+        RecordingUninurseBookStorage storage = new RecordingUninurseBookStorage(testFolder.resolve("data.json"));
+        DebouncedUninurseBookSaver saver = new DebouncedUninurseBookSaver(storage, 0);
+        UninurseBook original = getTypicalUninurseBook();
+
+        saver.requestSave(original);
+        storage.saveAttempted.await();
+        assertEquals(List.of(original), storage.savedUninurseBooks);
+    }
+
+    /**
+     * A stub class that records the uninurse books it is asked to save.
+     */
+    private static class RecordingUninurseBookStorage extends JsonUninurseBookStorage {
+        private final List<ReadOnlyUninurseBook> savedUninurseBooks = new ArrayList<>();
+        private final CountDownLatch saveAttempted = new CountDownLatch(1);
+
+        private RecordingUninurseBookStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveUninurseBook(ReadOnlyUninurseBook uninurseBook, Path filePath) {
+            savedUninurseBooks.add(uninurseBook);
+            saveAttempted.countDown();
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package seedu.uninurse.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.uninurse.testutil.Assert.assertThrows;
+import static seedu.uninurse.testutil.TypicalPatients.ALICE;
+import static seedu.uninurse.testutil.TypicalPatients.BENSON;
+import static seedu.uninurse.testutil.TypicalPatients.HOON;
+import static seedu.uninurse.testutil.TypicalPatients.IDA;
+import static seedu.uninurse.testutil.TypicalPatients.getTypicalUninurseBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.uninurse.commons.exceptions.DataConversionException;
+import seedu.uninurse.commons.util.FileUtil;
+import seedu.uninurse.model.UninurseBook;
+import seedu.uninurse.model.person.Patient;
+import seedu.uninurse.testutil.PatientBuilder;
+
+public class JournalUninurseBookStorageTest {
+    private static final int COMPACTION_INTERVAL = 3;
+
+    @TempDir
+    public Path testFolder;
+
+    private JournalUninurseBookStorage createStorage(Path filePath) {
+        return new JournalUninurseBookStorage(new JsonUninurseBookStorage(filePath), COMPACTION_INTERVAL);
+    }
+
+    private long countJournalLines(Path filePath) throws IOException {
+        return Files.readAllLines(JournalUninurseBookStorage.getJournalPath(filePath)).size();
+    }
+
+    @Test
+    public void readUninurseBook_missingFile_emptyResult() throws Exception {
+        assertFalse(createStorage(testFolder.resolve("missing.json")).readUninurseBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveUninurseBook_changesJournaled_success() throws Exception {
+        Path filePath = testFolder.resolve("uninurseBook.json");
+        JournalUninurseBookStorage storage = createStorage(filePath);
+        UninurseBook original = getTypicalUninurseBook();
+        storage.saveUninurseBook(original); // first save writes a snapshot
+        assertEquals(1, countJournalLines(filePath));
+
+        // Add, edit and delete patients, each appended to the journal
+        original.addPatient(HOON);
+        storage.saveUninurseBook(new UninurseBook(original));
+        Patient editedAlice = new PatientBuilder(ALICE).withTags("Edited").build();
+        original.setPatient(ALICE, editedAlice);
+        storage.saveUninurseBook(new UninurseBook(original));
+        assertEquals(3, countJournalLines(filePath));
+
+        // Read back by replaying the journal
+        UninurseBook readBack = new UninurseBook(createStorage(filePath).readUninurseBook().get());
+        assertEquals(original, readBack);
+    }
+
+    @Test
+    public void saveUninurseBook_scatteredChanges_entryPerChangedRun() throws Exception {
+        Path filePath = testFolder.resolve("uninurseBook.json");
+        JournalUninurseBookStorage storage = new JournalUninurseBookStorage(new JsonUninurseBookStorage(filePath),
+                100);
+        UninurseBook original = getTypicalUninurseBook();
+        storage.saveUninurseBook(original);
+
+        // Edit the first and the last patient, and delete one in the middle
+        List<Patient> patients = original.getPatientList();
+        Patient first = patients.get(0);
+        Patient last = patients.get(patients.size() - 1);
+        original.setPatient(first, new PatientBuilder(first).withTags("Edited").build());
+        original.setPatient(last, new PatientBuilder(last).withTags("Edited").build());
+        original.removePerson(patients.get(patients.size() / 2));
+        storage.saveUninurseBook(new UninurseBook(original));
+        assertEquals(4, countJournalLines(filePath));
+
+        assertEquals(original, new UninurseBook(createStorage(filePath).readUninurseBook().get()));
+    }
+
+    @Test
+    public void saveUninurseBook_unchangedUninurseBook_nothingAppended() throws Exception {
+        Path filePath = testFolder.resolve("uninurseBook.json");
+        JournalUninurseBookStorage storage = createStorage(filePath);
+        UninurseBook original = getTypicalUninurseBook();
+        storage.saveUninurseBook(original);
+        storage.saveUninurseBook(original);
+        assertEquals(1, countJournalLines(filePath));
+    }
+
+    @Test
+    public void saveUninurseBook_compactionIntervalReached_journalCompacted() throws Exception {
+        Path filePath = testFolder.resolve("uninurseBook.json");
+        JournalUninurseBookStorage storage = createStorage(filePath);
+        UninurseBook original = getTypicalUninurseBook();
+        storage.saveUninurseBook(original);
+
+        original.addPatient(HOON);
+        storage.saveUninurseBook(new UninurseBook(original));
+        original.addPatient(IDA);
+        storage.saveUninurseBook(new UninurseBook(original));
+        original.removePerson(BENSON);
+        storage.saveUninurseBook(new UninurseBook(original));
+        assertEquals(COMPACTION_INTERVAL + 1, countJournalLines(filePath));
+
+        original.removePerson(ALICE);
+        storage.saveUninurseBook(new UninurseBook(original));
+        assertEquals(1, countJournalLines(filePath));
+        assertEquals(original, new UninurseBook(new JsonUninurseBookStorage(filePath).readUninurseBook().get()));
+        assertEquals(original, new UninurseBook(createStorage(filePath).readUninurseBook().get()));
+    }
+
+    @Test
+    public void readUninurseBook_journalOfEarlierSnapshot_journalIgnored() throws Exception {
+        Path filePath = testFolder.resolve("uninurseBook.json");
+        JournalUninurseBookStorage storage = createStorage(filePath);
+        storage.saveUninurseBook(getTypicalUninurseBook());
+        UninurseBook withHoon = getTypicalUninurseBook();
+        withHoon.addPatient(HOON);
+        storage.saveUninurseBook(withHoon);
+
+        // Snapshot replaced without rewriting its journal, as if the app crashed during compaction
+        UninurseBook compacted = getTypicalUninurseBook();
+        compacted.addPatient(IDA);
+        new JsonUninurseBookStorage(filePath).saveUninurseBook(compacted);
+
+        assertEquals(compacted, new UninurseBook(createStorage(filePath).readUninurseBook().get()));
+    }
+
+    @Test
+    public void readUninurseBook_incompleteLastEntry_entryIgnored() throws Exception {
+        Path filePath = testFolder.resolve("uninurseBook.json");
+        JournalUninurseBookStorage storage = createStorage(filePath);
+        UninurseBook original = getTypicalUninurseBook();
+        storage.saveUninurseBook(original);
+        FileUtil.appendToFile(JournalUninurseBookStorage.getJournalPath(filePath), "{\"from\":0,\"remov");
+
+        JournalUninurseBookStorage readingStorage = createStorage(filePath);
+        assertEquals(original, new UninurseBook(readingStorage.readUninurseBook().get()));
+
+        // The next save compacts the damaged journal
+        original.addPatient(HOON);
+        readingStorage.saveUninurseBook(original);
+        assertEquals(1, countJournalLines(filePath));
+    }
+
+    @Test
+    public void readUninurseBook_invalidEntry_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("uninurseBook.json");
+        createStorage(filePath).saveUninurseBook(getTypicalUninurseBook());
+        Path journalPath = JournalUninurseBookStorage.getJournalPath(filePath);
+        FileUtil.appendToFile(journalPath, "{\"from\":100,\"removedCount\":1,\"added\":[]}\n");
+
+        assertThrows(DataConversionException.class, () -> createStorage(filePath).readUninurseBook());
+    }
+}
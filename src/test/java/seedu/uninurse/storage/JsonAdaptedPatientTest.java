@@ -16,6 +16,8 @@ import seedu.uninurse.model.person.Address;
 import seedu.uninurse.model.person.Email;
 import seedu.uninurse.model.person.Name;
 import seedu.uninurse.model.person.Phone;
+import seedu.uninurse.model.task.Recurrence;
+import seedu.uninurse.model.task.RecurringTask;
 
 public class JsonAdaptedPatientTest {
     private static final String INVALID_NAME = "R@chel";
@@ -156,6 +158,26 @@ public class JsonAdaptedPatientTest {
         assertThrows(IllegalValueException.class, person::toModelType);
     }
 
+    @Test
+    public void toModelType_recurringTaskStartsAfterDateTime_throwsIllegalValueException() {
+        List<JsonAdaptedTask> invalidTasks = new ArrayList<>(VALID_TASKS);
+        invalidTasks.add(new JsonAdaptedTask("Daily", new JsonAdaptedDateTime("25-10-22 1000"), Recurrence.DAY, 1,
+                new JsonAdaptedDateTime("26-10-22 1000")));
+        JsonAdaptedPatient person = new JsonAdaptedPatient(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+                VALID_CONDITIONS, VALID_MEDICATIONS, invalidTasks, VALID_REMARKS, VALID_TAGS);
+        assertThrows(IllegalValueException.class, RecurringTask.MESSAGE_CONSTRAINTS, person::toModelType);
+    }
+
+    @Test
+    public void toModelType_recurringTaskNeverReachesDateTime_throwsIllegalValueException() {
+        List<JsonAdaptedTask> invalidTasks = new ArrayList<>(VALID_TASKS);
+        invalidTasks.add(new JsonAdaptedTask("Weekly", new JsonAdaptedDateTime("26-10-22 1000"), Recurrence.WEEK, 1,
+                new JsonAdaptedDateTime("25-10-22 1000")));
+        JsonAdaptedPatient person = new JsonAdaptedPatient(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+                VALID_CONDITIONS, VALID_MEDICATIONS, invalidTasks, VALID_REMARKS, VALID_TAGS);
+        assertThrows(IllegalValueException.class, RecurringTask.MESSAGE_CONSTRAINTS, person::toModelType);
+    }
+
     @Test
     public void toModelType_invalidTags_throwsIllegalValueException() {
         List<JsonAdaptedTag> invalidTags = new ArrayList<>(VALID_TAGS);
@@ -9,13 +9,16 @@ import static seedu.uninurse.testutil.TypicalPatients.IDA;
 import static seedu.uninurse.testutil.TypicalPatients.getTypicalUninurseBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.uninurse.commons.exceptions.DataConversionException;
+import seedu.uninurse.commons.util.FileUtil;
 import seedu.uninurse.model.ReadOnlyUninurseBook;
 import seedu.uninurse.model.UninurseBook;
 
@@ -85,6 +88,41 @@ public class JsonUninurseBookStorageTest {
         assertEquals(original, new UninurseBook(readBack));
     }
 
+    @Test
+    public void readUninurseBook_corruptedFile_readsNewestValidBackup() throws Exception {
+        Path filePath = testFolder.resolve("TempUninurseBook.json");
+        UninurseBook original = getTypicalUninurseBook();
+        JsonUninurseBookStorage jsonUninurseBookStorage = new JsonUninurseBookStorage(filePath, 2);
+
+        jsonUninurseBookStorage.saveUninurseBook(original);
+        jsonUninurseBookStorage.saveUninurseBook(new UninurseBook());
+        jsonUninurseBookStorage.saveUninurseBook(new UninurseBook());
+        FileUtil.writeToFile(filePath, "{ \"patients\" : [ {");
+        Files.copy(filePath, FileUtil.getBackupPath(filePath, 1), StandardCopyOption.REPLACE_EXISTING);
+
+        ReadOnlyUninurseBook readBack = jsonUninurseBookStorage.readUninurseBook().get();
+        assertEquals(original, new UninurseBook(readBack));
+    }
+
+    @Test
+    public void readUninurseBook_corruptedFileWithoutBackups_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempUninurseBook.json");
+        FileUtil.writeToFile(filePath, "{ \"patients\" : [ {");
+        assertThrows(DataConversionException.class, () -> new JsonUninurseBookStorage(filePath).readUninurseBook());
+    }
+
+    @Test
+    public void readAndSaveUninurseBook_compact_successWithoutWhitespace() throws Exception {
+        Path filePath = testFolder.resolve("TempUninurseBook.json");
+        UninurseBook original = getTypicalUninurseBook();
+        JsonUninurseBookStorage jsonUninurseBookStorage = new JsonUninurseBookStorage(filePath, 0, true);
+
+        jsonUninurseBookStorage.saveUninurseBook(original);
+        assertFalse(FileUtil.readFromFile(filePath).contains("\n"));
+        ReadOnlyUninurseBook readBack = jsonUninurseBookStorage.readUninurseBook().get();
+        assertEquals(original, new UninurseBook(readBack));
+    }
+
     @Test
     public void saveUninurseBook_nullUninurseBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveUninurseBook(null, "SomeFile.json"));
@@ -70,6 +70,15 @@ public class JsonUserPrefsStorageTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    public void readUserPrefs_nonPositiveParallelFindThreshold_defaultThresholdUsed() throws DataConversionException {
+        UserPrefs actual = readUserPrefs("NonPositiveParallelFindThresholdUserPref.json").get();
+        assertEquals(getTypicalUserPrefs(), actual);
+
+        // the prefs can be copied into a model without failing its checks
+        assertEquals(actual, new UserPrefs(actual));
+    }
+
     private UserPrefs getTypicalUserPrefs() {
         UserPrefs userPrefs = new UserPrefs();
         userPrefs.setGuiSettings(new GuiSettings(1000, 500, 300, 100));